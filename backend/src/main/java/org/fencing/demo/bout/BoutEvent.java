@@ -0,0 +1,68 @@
+package org.fencing.demo.bout;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One thing the scoring box reported during a bout. Rows are only ever inserted; the match score
+ * is the sum of the points of its events. The box numbers its events per match, and that
+ * sequence number is what makes a resent event a duplicate.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "bout_events",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "match_id", "sequence_number" }))
+public class BoutEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bout_event_seq")
+    @SequenceGenerator(name = "bout_event_seq", sequenceName = "bout_event_seq", allocationSize = 50)
+    private long id;
+
+    // Plain column rather than an association so appending never has to load the match
+    @Column(name = "match_id", nullable = false)
+    private long matchId;
+
+    @Column(name = "sequence_number", nullable = false)
+    private long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BoutEventType type;
+
+    // 1 or 2, matching player1/player2 of the match; null for period changes and double touches
+    private Integer fencer;
+
+    private Integer period;
+
+    private Instant occurredAt;
+
+    private Instant receivedAt;
+
+    public int player1Points() {
+        return pointsFor(1);
+    }
+
+    public int player2Points() {
+        return pointsFor(2);
+    }
+
+    private int pointsFor(int side) {
+        switch (type) {
+            case TOUCH:
+                return fencer == side ? 1 : 0;
+            case DOUBLE_TOUCH:
+                return 1;
+            case RED_CARD:
+                // A red card gives the opponent a touch
+                return fencer == side ? 0 : 1;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.fencing.demo.bout;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class BoutEventController {
+
+    private final BoutEventIngestor ingestor;
+    private final BoutEventRepository boutEventRepository;
+
+    public BoutEventController(BoutEventIngestor ingestor, BoutEventRepository boutEventRepository) {
+        this.ingestor = ingestor;
+        this.boutEventRepository = boutEventRepository;
+    }
+
+    @PostMapping("/tournaments/{tournamentId}/events/{eventId}/match/{matchId}/bout-events")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BoutIngestResult addBoutEvents(@PathVariable Long eventId, @PathVariable Long matchId,
+            @RequestBody List<BoutEventRequest> events) {
+        return ingestor.submit(eventId, matchId, events);
+    }
+
+    @GetMapping("/tournaments/{tournamentId}/events/{eventId}/match/{matchId}/bout-events")
+    @ResponseStatus(HttpStatus.OK)
+    public List<BoutEvent> getBoutEvents(@PathVariable Long matchId) {
+        return boutEventRepository.findByMatchIdOrderBySequenceAsc(matchId);
+    }
+}
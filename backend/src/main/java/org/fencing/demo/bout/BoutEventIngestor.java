@@ -0,0 +1,253 @@
+package org.fencing.demo.bout;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fencing.demo.match.MatchBatchResult;
+import org.fencing.demo.match.MatchNotFoundException;
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.match.MatchUpdateRetrier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Takes touches, cards and period changes from the scoring boxes and writes them in the
+ * background. Submitting only checks the sequence number and queues the event on its match's
+ * lane; every {@code flushInterval} one thread drains all lanes and writes each event's share
+ * through {@link BoutScoreWriter} in a single transaction, so a hall full of pistes costs a few
+ * transactions per interval rather than one per touch.
+ *
+ * <p>Boxes number their events per match and send them in order. An event whose sequence number
+ * is not above the last one seen is a resend and is acknowledged without being queued again.
+ * If a batch still cannot be written after {@code maxFlushAttempts} flushes, the match's last
+ * sequence is moved back so the box resends the lost events.
+ */
+@Component
+public class BoutEventIngestor {
+
+    private static final Logger log = LoggerFactory.getLogger(BoutEventIngestor.class);
+
+    private final BoutScoreWriter writer;
+    private final BoutEventRepository boutEventRepository;
+    private final MatchRepository matchRepository;
+    private final MatchUpdateRetrier retrier;
+    private final int maxPendingPerMatch;
+    private final int maxFlushAttempts;
+    private final ScheduledExecutorService flusher;
+    private final Counter accepted;
+    private final Counter duplicates;
+    private final Counter dropped;
+
+    private final Map<Long, MatchLane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    // Only touched by the flusher thread
+    private final List<PendingBatch> retryBatches = new ArrayList<>();
+
+    public BoutEventIngestor(BoutScoreWriter writer, BoutEventRepository boutEventRepository,
+            MatchRepository matchRepository, MatchUpdateRetrier retrier,
+            @Value("${bout.ingest.flush-interval:100ms}") Duration flushInterval,
+            @Value("${bout.ingest.max-pending-per-match:1000}") int maxPendingPerMatch,
+            @Value("${bout.ingest.max-flush-attempts:5}") int maxFlushAttempts,
+            MeterRegistry meterRegistry) {
+        if (maxPendingPerMatch <= 0 || maxFlushAttempts <= 0) {
+            throw new IllegalArgumentException("Bout ingest limits must be positive");
+        }
+        this.writer = writer;
+        this.boutEventRepository = boutEventRepository;
+        this.matchRepository = matchRepository;
+        this.retrier = retrier;
+        this.maxPendingPerMatch = maxPendingPerMatch;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bout-ingest-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.accepted = meterRegistry.counter("bout.events", "outcome", "accepted");
+        this.duplicates = meterRegistry.counter("bout.events", "outcome", "duplicate");
+        this.dropped = meterRegistry.counter("bout.events", "outcome", "dropped");
+        Gauge.builder("bout.ingest.pending", pending, AtomicInteger::get).register(meterRegistry);
+
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public BoutIngestResult submit(Long eventId, Long matchId, List<BoutEventRequest> requests) {
+        if (eventId == null || matchId == null || requests == null) {
+            throw new IllegalArgumentException("Event ID, Match ID and bout events cannot be null");
+        }
+        requests.forEach(BoutEventIngestor::validate);
+        MatchLane lane = lanes.computeIfAbsent(matchId, this::openLane);
+        if (lane.eventId != eventId.longValue()) {
+            throw new IllegalArgumentException("Match does not belong to the specified event");
+        }
+
+        Instant receivedAt = Instant.now();
+        int acceptedCount = 0;
+        synchronized (lane) {
+            if (lane.pending.get() + requests.size() > maxPendingPerMatch) {
+                throw new BoutIngestQueueFullException(matchId);
+            }
+            for (BoutEventRequest request : requests) {
+                if (request.getSequence() <= lane.lastSequence) {
+                    continue;
+                }
+                lane.lastSequence = request.getSequence();
+                lane.queue.add(BoutEvent.builder()
+                        .matchId(matchId)
+                        .sequence(request.getSequence())
+                        .type(request.getType())
+                        .fencer(request.getFencer())
+                        .period(request.getPeriod())
+                        .occurredAt(request.getOccurredAt())
+                        .receivedAt(receivedAt)
+                        .build());
+                acceptedCount++;
+            }
+            lane.pending.addAndGet(acceptedCount);
+            pending.addAndGet(acceptedCount);
+            accepted.increment(acceptedCount);
+            duplicates.increment(requests.size() - acceptedCount);
+            return new BoutIngestResult(acceptedCount, requests.size() - acceptedCount, lane.lastSequence);
+        }
+    }
+
+    private static void validate(BoutEventRequest request) {
+        if (request == null || request.getType() == null) {
+            throw new IllegalArgumentException("Bout event type cannot be null");
+        }
+        if (request.getSequence() <= 0) {
+            throw new IllegalArgumentException("Bout event sequence must be positive");
+        }
+        Integer fencer = request.getFencer();
+        if (request.getType().requiresFencer() ? fencer == null || (fencer != 1 && fencer != 2) : fencer != null) {
+            throw new IllegalArgumentException("Fencer must be 1 or 2 for " + request.getType()
+                    + (request.getType().requiresFencer() ? "" : " and empty otherwise"));
+        }
+    }
+
+    // Resume numbering from the log so a restart doesn't re-accept events already written
+    private MatchLane openLane(Long matchId) {
+        long eventId = matchRepository.findEventIdById(matchId)
+                .orElseThrow(() -> new MatchNotFoundException(matchId));
+        return new MatchLane(eventId, boutEventRepository.findLastSequenceByMatchId(matchId).orElse(0L));
+    }
+
+    private void flush() {
+        // Batches that failed before go first; until they are written their matches take no newer
+        // events, so a match's events always reach the log in sequence order
+        List<PendingBatch> retries = new ArrayList<>(retryBatches);
+        retryBatches.clear();
+        retries.forEach(this::write);
+        Set<Long> blockedMatches = new HashSet<>();
+        retryBatches.forEach(batch -> batch.events.forEach(event -> blockedMatches.add(event.getMatchId())));
+
+        Map<Long, List<BoutEvent>> byEvent = new HashMap<>();
+        for (Map.Entry<Long, MatchLane> entry : lanes.entrySet()) {
+            if (blockedMatches.contains(entry.getKey())) {
+                continue;
+            }
+            MatchLane lane = entry.getValue();
+            BoutEvent event;
+            while ((event = lane.queue.poll()) != null) {
+                lane.pending.decrementAndGet();
+                byEvent.computeIfAbsent(lane.eventId, id -> new ArrayList<>()).add(event);
+            }
+        }
+        byEvent.forEach((eventId, events) -> write(new PendingBatch(eventId, events, 0)));
+    }
+
+    private void write(PendingBatch batch) {
+        try {
+            MatchBatchResult result = retrier.execute("ingest", () -> writer.append(batch.eventId, batch.events));
+            result.getFailures().forEach(failure -> log.warn("Bout events logged for event {} but match {} not rescored: {}",
+                    batch.eventId, failure.getMatchId(), failure.getMessage()));
+            pending.addAndGet(-batch.events.size());
+        } catch (RuntimeException e) {
+            // Nothing was written, so keep the batch and try again on the next flush
+            if (batch.attempts + 1 < maxFlushAttempts) {
+                retryBatches.add(new PendingBatch(batch.eventId, batch.events, batch.attempts + 1));
+                log.warn("Could not write {} bout events for event {}, retrying", batch.events.size(), batch.eventId, e);
+            } else {
+                drop(batch, e);
+            }
+        }
+    }
+
+    /**
+     * Gives up on a batch the boxes were already told was accepted. Each match's sequence is moved
+     * back to just before its first dropped event, and the newer events held back behind the batch
+     * are discarded too, so the box's next submit reports the lower sequence and it resends
+     * everything from there.
+     */
+    private void drop(PendingBatch batch, RuntimeException e) {
+        Map<Long, Long> firstDropped = new HashMap<>();
+        batch.events.forEach(event -> firstDropped.merge(event.getMatchId(), event.getSequence(), Math::min));
+        int discarded = batch.events.size();
+        for (Map.Entry<Long, Long> entry : firstDropped.entrySet()) {
+            MatchLane lane = lanes.get(entry.getKey());
+            if (lane == null) {
+                continue;
+            }
+            synchronized (lane) {
+                while (lane.queue.poll() != null) {
+                    lane.pending.decrementAndGet();
+                    discarded++;
+                }
+                lane.lastSequence = Math.min(lane.lastSequence, entry.getValue() - 1);
+            }
+        }
+        pending.addAndGet(-discarded);
+        dropped.increment(discarded);
+        log.error("Dropping {} bout events for event {} after {} attempts, boxes will be asked to resend from {}",
+                discarded, batch.eventId, maxFlushAttempts, firstDropped, e);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            if (flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                // Write whatever the boxes sent since the last flush
+                flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MatchLane {
+        private final long eventId;
+        private final Queue<BoutEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private long lastSequence;
+
+        MatchLane(long eventId, long lastSequence) {
+            this.eventId = eventId;
+            this.lastSequence = lastSequence;
+        }
+    }
+
+    private record PendingBatch(Long eventId, List<BoutEvent> events, int attempts) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.fencing.demo.bout;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BoutEventRepository extends JpaRepository<BoutEvent, Long> {
+
+    @Query("SELECT MAX(b.sequence) FROM BoutEvent b WHERE b.matchId = :matchId")
+    Optional<Long> findLastSequenceByMatchId(@Param("matchId") long matchId);
+
+    List<BoutEvent> findByMatchIdOrderBySequenceAsc(long matchId);
+}
@@ -0,0 +1,23 @@
+package org.fencing.demo.bout;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoutEventRequest {
+
+    private long sequence;
+
+    private BoutEventType type;
+
+    private Integer fencer;
+
+    private Integer period;
+
+    private Instant occurredAt;
+}
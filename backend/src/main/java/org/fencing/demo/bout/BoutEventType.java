@@ -0,0 +1,17 @@
+package org.fencing.demo.bout;
+
+public enum BoutEventType {
+    TOUCH,
+    DOUBLE_TOUCH,
+    YELLOW_CARD,
+    RED_CARD,
+    BLACK_CARD,
+    PERIOD_START,
+    PERIOD_END,
+    // The referee closed the bout on the box; the running score becomes the match result
+    BOUT_END;
+
+    public boolean requiresFencer() {
+        return this == TOUCH || this == YELLOW_CARD || this == RED_CARD || this == BLACK_CARD;
+    }
+}
@@ -0,0 +1,13 @@
+package org.fencing.demo.bout;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class BoutIngestQueueFullException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public BoutIngestQueueFullException(Long matchId) {
+        super("Too many pending bout events for match " + matchId + ", please retry later");
+    }
+}
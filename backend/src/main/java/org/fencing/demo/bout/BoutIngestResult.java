@@ -0,0 +1,18 @@
+package org.fencing.demo.bout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoutIngestResult {
+
+    private int accepted;
+
+    // Events at or below the last sequence number already seen for the match, e.g. resends
+    private int duplicates;
+
+    private long lastSequence;
+}
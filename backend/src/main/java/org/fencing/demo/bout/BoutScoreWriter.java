@@ -0,0 +1,96 @@
+package org.fencing.demo.bout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.fencing.demo.live.MatchScoreChangedEvent;
+import org.fencing.demo.match.Match;
+import org.fencing.demo.match.MatchBatchResult;
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.match.MatchScore;
+import org.fencing.demo.match.MatchService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class BoutScoreWriter {
+
+    private final BoutEventRepository boutEventRepository;
+    private final MatchRepository matchRepository;
+    private final MatchService matchService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BoutScoreWriter(BoutEventRepository boutEventRepository, MatchRepository matchRepository,
+            MatchService matchService, ApplicationEventPublisher eventPublisher) {
+        this.boutEventRepository = boutEventRepository;
+        this.matchRepository = matchRepository;
+        this.matchService = matchService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Appends a batch of bout events for one event and moves each touched match's running score
+     * on by the points in the batch, all in one transaction. Running scores are only shown to
+     * live viewers; rankings and the score log see the bout once a {@link BoutEventType#BOUT_END}
+     * arrives, when the final score goes through {@link MatchService#updateMatches} like a scored
+     * sheet.
+     */
+    @Transactional
+    public MatchBatchResult append(Long eventId, List<BoutEvent> events) {
+        boutEventRepository.saveAll(events);
+
+        Map<Long, BoutProgress> progress = new LinkedHashMap<>();
+        for (BoutEvent event : events) {
+            BoutProgress bout = progress.computeIfAbsent(event.getMatchId(), id -> new BoutProgress());
+            bout.player1Points += event.player1Points();
+            bout.player2Points += event.player2Points();
+            bout.ended |= event.getType() == BoutEventType.BOUT_END;
+        }
+        progress.values().removeIf(bout -> !bout.ended && bout.player1Points == 0 && bout.player2Points == 0);
+        if (progress.isEmpty()) {
+            return new MatchBatchResult();
+        }
+
+        MatchBatchResult result = new MatchBatchResult();
+        List<Match> running = new ArrayList<>();
+        List<MatchScore> finalScores = new ArrayList<>();
+        for (Match match : matchRepository.findAllById(progress.keySet())) {
+            BoutProgress bout = progress.get(match.getId());
+            if (match.hasAppliedResult() && !match.isInProgress()) {
+                result.addFailure(match.getId(), "Bout has already ended");
+                continue;
+            }
+            int player1Score = match.getPlayer1Score() + bout.player1Points;
+            int player2Score = match.getPlayer2Score() + bout.player2Points;
+            if (bout.ended) {
+                finalScores.add(new MatchScore(match.getId(), player1Score, player2Score));
+            } else {
+                match.setPlayer1Score(player1Score);
+                match.setPlayer2Score(player2Score);
+                match.setInProgress(true);
+                running.add(match);
+            }
+        }
+
+        matchRepository.saveAll(running);
+        for (Match match : running) {
+            eventPublisher.publishEvent(new MatchScoreChangedEvent(eventId, match.getId()));
+        }
+        result.getUpdated().addAll(running);
+        if (!finalScores.isEmpty()) {
+            MatchBatchResult ended = matchService.updateMatches(eventId, finalScores);
+            result.getUpdated().addAll(ended.getUpdated());
+            result.getFailures().addAll(ended.getFailures());
+        }
+        return result;
+    }
+
+    private static class BoutProgress {
+        private int player1Points;
+        private int player2Points;
+        private boolean ended;
+    }
+}
@@ -3,7 +3,10 @@ package org.fencing.demo.events;
 import java.util.List;
 
 import org.fencing.demo.player.Player;
+import org.fencing.demo.registration.RegistrationQueue;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,9 +26,14 @@ import jakarta.validation.Valid;
 public class EventController {
     
     private final EventService eventService;
+    private final RegistrationQueue registrationQueue;
 
-    public EventController(EventService eventService) {
+    @Value("${event.registration.queue.enabled:false}")
+    private boolean queuedRegistrationByDefault;
+
+    public EventController(EventService eventService, RegistrationQueue registrationQueue) {
         this.eventService = eventService;
+        this.registrationQueue = registrationQueue;
     }
 
     @PostMapping("/tournaments/{tournamentId}/events")
@@ -58,7 +67,8 @@ public class EventController {
     }
     
     @PostMapping("/tournaments/{tournamentId}/events/{eventId}/players/{username}")
-    public Event addPlayerToEvent(@PathVariable Long eventId, @PathVariable String username) {
+    public ResponseEntity<Object> addPlayerToEvent(@PathVariable Long eventId, @PathVariable String username,
+            @RequestParam(required = false) Boolean queued) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUser = authentication.getName();
         
@@ -70,7 +80,11 @@ public class EventController {
             }
         }
         
-        return eventService.addPlayerToEvent(eventId, username);
+        // Queued registrations are accepted straight away; poll /registrations/{ticketId} for the result
+        if (queued != null ? queued : queuedRegistrationByDefault) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(registrationQueue.submit(eventId, username));
+        }
+        return ResponseEntity.ok(eventService.addPlayerToEvent(eventId, username));
     }
 
     @DeleteMapping("/tournaments/{tournamentId}/events/{eventId}")
@@ -1,5 +1,6 @@
 package org.fencing.demo.events;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,9 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByTournamentId(Long tournamentId);
 
+    @Query("SELECT e.id FROM Event e WHERE e.tournament.id = :tournamentId ORDER BY e.startDate, e.id")
+    List<Long> findIdsByTournamentIdInStartOrder(@Param("tournamentId") Long tournamentId);
+
     void deleteByTournamentIdAndId(Long tournamentId, Long id);
 
     KnockoutStage findKnockoutStageById(Long eventId);
@@ -22,6 +26,17 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e JOIN e.rankings pr WHERE pr.player.username = :username")
     List<Event> findEventsByUsername(@Param("username") String username);
 
+    // Only events ending on or after the new event's start can overlap, so past history is skipped
+    @Query("SELECT COUNT(e) > 0 FROM Event e JOIN e.rankings pr " +
+           "WHERE pr.player.id = :playerId AND e.endDate >= :startDate AND e.startDate <= :endDate")
+    boolean existsOverlappingEventForPlayer(@Param("playerId") Long playerId,
+            @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT DISTINCT pr.player.id FROM Event e JOIN e.rankings pr " +
+           "WHERE pr.player.id IN :playerIds AND e.endDate >= :startDate AND e.startDate <= :endDate")
+    List<Long> findPlayerIdsWithOverlappingEvents(@Param("playerIds") List<Long> playerIds,
+            @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
     @Query("SELECT DISTINCT e FROM Event e " + 
            "LEFT JOIN FETCH e.matches WHERE e.id = :id")
     Optional<Event> findByIdWithMatches(@Param("id") Long id);
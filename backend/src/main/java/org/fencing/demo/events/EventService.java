@@ -15,6 +15,8 @@ public interface EventService {
 
     Event addPlayerToEvent(Long eventId, String username);
 
+    RegistrationBatchResult addPlayersToEvent(Long eventId, List<String> usernames);
+
     void deleteEvent(Long tournamentId, Long eventId);
 
     Event removePlayerFromEvent(Long eventId, String username);
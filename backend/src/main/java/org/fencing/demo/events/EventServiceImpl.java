@@ -1,17 +1,29 @@
 package org.fencing.demo.events;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-import org.fencing.demo.groupstage.GroupStage;
-import org.fencing.demo.knockoutstage.KnockoutStage;
-import org.fencing.demo.match.Match;
+import org.fencing.demo.groupstage.GroupStageRepository;
+import org.fencing.demo.knockoutstage.KnockoutStageRepository;
+import org.fencing.demo.match.MatchRepository;
 import org.fencing.demo.player.Player;
 import org.fencing.demo.player.PlayerNotFoundException;
 import org.fencing.demo.player.PlayerRepository;
 import org.fencing.demo.playerrank.PlayerRank;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.fencing.demo.registration.EventSeatCounter;
+import org.fencing.demo.registration.WaitlistEntry;
+import org.fencing.demo.registration.WaitlistRepository;
 import org.fencing.demo.tournament.TournamentNotFoundException;
 import org.fencing.demo.tournament.TournamentRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -21,12 +33,26 @@ public class EventServiceImpl implements EventService {
     private final EventRepository eventRepository;
     private final TournamentRepository tournamentRepository;
     private PlayerRepository playerRepository;
+    private PlayerRankRepository playerRankRepository;
+    private WaitlistRepository waitlistRepository;
+    private EventSeatCounter seatCounter;
+    private MatchRepository matchRepository;
+    private GroupStageRepository groupStageRepository;
+    private KnockoutStageRepository knockoutStageRepository;
 
     public EventServiceImpl(EventRepository eventRepository, TournamentRepository tournamentRepository,
-            PlayerRepository playerRepository) {
+            PlayerRepository playerRepository, PlayerRankRepository playerRankRepository,
+            WaitlistRepository waitlistRepository, EventSeatCounter seatCounter, MatchRepository matchRepository,
+            GroupStageRepository groupStageRepository, KnockoutStageRepository knockoutStageRepository) {
         this.tournamentRepository = tournamentRepository;
         this.eventRepository = eventRepository;
         this.playerRepository = playerRepository;
+        this.playerRankRepository = playerRankRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.seatCounter = seatCounter;
+        this.matchRepository = matchRepository;
+        this.groupStageRepository = groupStageRepository;
+        this.knockoutStageRepository = knockoutStageRepository;
     }
 
     @Override
@@ -44,7 +70,10 @@ public class EventServiceImpl implements EventService {
                 throw new IllegalArgumentException("Event end date must be after start date");
             }
             event.setTournament(tournament);
-            return eventRepository.save(event);
+            Event saved = eventRepository.save(event);
+            // Keeps the cached Tournament.events collection in step with the new row
+            tournament.getEvents().add(saved);
+            return saved;
         }).orElseThrow(() -> new TournamentNotFoundException(tournamentId));
     }
 
@@ -92,16 +121,21 @@ public class EventServiceImpl implements EventService {
             existingEvent.setWeapon(newEvent.getWeapon());
             existingEvent.setStartDate(newEvent.getStartDate());
             existingEvent.setEndDate(newEvent.getEndDate());
+            existingEvent.setCapacity(newEvent.getCapacity());
             // existingEvent.setRankings(newEvent.getRankings());
             // existingEvent.setGroupStages(newEvent.getGroupStages());
             // existingEvent.setKnockoutStages(newEvent.getKnockoutStages());
 
+            // A larger capacity frees seats for waitlisted players
+            fillFromWaitlist(existingEvent);
+
             return eventRepository.save(existingEvent);
 
         }).orElseThrow(() -> new EventNotFoundException(eventId));
 
     }
 
+    @Transactional(dontRollbackOn = PlayerWaitlistedException.class)
     public Event addPlayerToEvent(Long eventId, String username) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException(eventId));
@@ -112,6 +146,109 @@ public class EventServiceImpl implements EventService {
         }          
         Player player = players.get(0);
 
+        validateRegistration(event, player);
+
+        // Check for conflicting events
+        if (hasConflictingEvents(player, event)) {
+            throw new IllegalStateException("Player is already registered for a conflicting event");
+        }
+
+        if (event.getCapacity() != null && !seatCounter.tryAcquire(eventId, event.getCapacity())) {
+            throw new PlayerWaitlistedException(username, addToWaitlist(event, player));
+        }
+
+        // Insert the single row instead of adding to event.getRankings(), which would load every
+        // registered player; the (player_id, event_id) unique constraint catches double registration
+        try {
+            playerRankRepository.saveAndFlush(createPlayerRank(player, event));
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Player is already registered for this event");
+        }
+
+        return event;
+    }
+
+    /**
+     * Registers a batch of players for one event in a single transaction, using a fixed number
+     * of queries regardless of batch size. Players that fail validation are skipped and reported
+     * with the reason, players beyond the event's capacity go on the waitlist.
+     */
+    @Override
+    @Transactional
+    public RegistrationBatchResult addPlayersToEvent(Long eventId, List<String> usernames) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+
+        Map<String, Player> playersByUsername = new HashMap<>();
+        for (Player player : playerRepository.findByUsernameIn(usernames)) {
+            playersByUsername.put(player.getUsername(), player);
+        }
+        Set<Long> conflictingPlayerIds = playersByUsername.isEmpty()
+                ? Set.of()
+                : new HashSet<>(eventRepository.findPlayerIdsWithOverlappingEvents(
+                        playersByUsername.values().stream().map(Player::getId).toList(),
+                        event.getStartDate(), event.getEndDate()));
+
+        RegistrationBatchResult result = new RegistrationBatchResult();
+        Set<String> accepted = new HashSet<>();
+        List<PlayerRank> playerRanks = new ArrayList<>();
+        for (String username : usernames) {
+            if (accepted.contains(username)) {
+                // Same player queued twice in one batch, the first request already covers it
+                continue;
+            }
+            Player player = playersByUsername.get(username);
+            try {
+                if (player == null) {
+                    throw new PlayerNotFoundException(username);
+                }
+                validateRegistration(event, player);
+                if (conflictingPlayerIds.contains(player.getId())) {
+                    throw new IllegalStateException("Player is already registered for a conflicting event");
+                }
+                accepted.add(username);
+                if (event.getCapacity() != null && !seatCounter.tryAcquire(eventId, event.getCapacity())) {
+                    addToWaitlist(event, player);
+                    result.getWaitlisted().add(username);
+                } else {
+                    playerRanks.add(createPlayerRank(player, event));
+                }
+            } catch (RuntimeException e) {
+                result.getRejected().put(username, e.getMessage());
+            }
+        }
+
+        playerRankRepository.saveAllAndFlush(playerRanks);
+        return result;
+    }
+
+    // Returns the player's 1-based position on the event's waitlist
+    private long addToWaitlist(Event event, Player player) {
+        WaitlistEntry entry = waitlistRepository.findByEventIdAndPlayerUsername(event.getId(), player.getUsername())
+                .orElseGet(() -> waitlistRepository.save(new WaitlistEntry(event, player)));
+        return waitlistRepository.countByEventIdAndIdLessThan(event.getId(), entry.getId()) + 1;
+    }
+
+    // Moves waitlisted players into the event, oldest first, while seats are available
+    private void fillFromWaitlist(Event event) {
+        for (WaitlistEntry entry : waitlistRepository.findByEventIdOrderByIdAsc(event.getId())) {
+            if (event.getCapacity() != null && !seatCounter.tryAcquire(event.getId(), event.getCapacity())) {
+                return;
+            }
+            waitlistRepository.delete(entry);
+            Player player = entry.getPlayer();
+            if (hasConflictingEvents(player, event)) {
+                // Registered for something else while waiting, give the seat to the next player
+                if (event.getCapacity() != null) {
+                    seatCounter.release(event.getId());
+                }
+                continue;
+            }
+            playerRankRepository.save(createPlayerRank(player, event));
+        }
+    }
+
+    private void validateRegistration(Event event, Player player) {
         // Check if the current date is within the registration period
         LocalDate currentDate = LocalDate.now();
         if (currentDate.isBefore(event.getTournament().getRegistrationStartDate()) ||
@@ -123,35 +260,19 @@ public class EventServiceImpl implements EventService {
         if (player.getGender() != event.getGender()) {
             throw new IllegalArgumentException("Player's gender does not match the event's gender");
         }
+    }
 
-        // Check for conflicting events
-        if (hasConflictingEvents(player, event)) {
-            throw new IllegalStateException("Player is already registered for a conflicting event");
-        }
-
+    private PlayerRank createPlayerRank(Player player, Event event) {
         PlayerRank playerRank = new PlayerRank();
         playerRank.setPlayer(player);
         playerRank.setEvent(event);
         playerRank.setScore(0);  // Initialize score
-
-        event.getRankings().add(playerRank); // Add PlayerRank to event rankings
-
-        return eventRepository.save(event); // Save updated event
+        return playerRank;
     }
 
     private boolean hasConflictingEvents(Player player, Event newEvent) {
-        List<Event> playerEvents = eventRepository.findEventsByUsername(player.getUsername());
-        for (Event existingEvent : playerEvents) {
-            if (eventsOverlap(existingEvent, newEvent)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean eventsOverlap(Event event1, Event event2) {
-        return !event1.getEndDate().isBefore(event2.getStartDate()) &&
-                !event2.getEndDate().isBefore(event1.getStartDate());
+        return eventRepository.existsOverlappingEventForPlayer(player.getId(),
+                newEvent.getStartDate(), newEvent.getEndDate());
     }
 
     @Override
@@ -163,8 +284,10 @@ public class EventServiceImpl implements EventService {
         eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException(eventId));
         eventRepository.deleteByTournamentIdAndId(tournamentId, eventId);
+        seatCounter.forget(eventId);
     }
 
+    @Transactional
     public Event removePlayerFromEvent(Long eventId, String username) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException(eventId));
@@ -176,17 +299,10 @@ public class EventServiceImpl implements EventService {
             throw new IllegalStateException("Player removal is not allowed outside the registration period");
         }
 
-        // Find the PlayerRank for this player and event
-        PlayerRank playerRankToRemove = event.getRankings().stream()
-                .filter(rank -> rank.getPlayer().getUsername().equals(username))
-                .findFirst()
-                .orElseThrow(() -> new PlayerNotFoundException(username));
-
-        event.getRankings().remove(playerRankToRemove);
-
-        return eventRepository.save(event);
+        return withdraw(event, username);
     }
 
+    @Transactional
     public Event adminRemovesPlayerFromEvent(Long eventId, String username) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new EventNotFoundException(eventId));
@@ -198,43 +314,43 @@ public class EventServiceImpl implements EventService {
             throw new IllegalStateException("Player removal is only allowed from the start of registration until the day before the event starts");
         }
 
+        return withdraw(event, username);
+    }
+
+    private Event withdraw(Event event, String username) {
         // Find the PlayerRank for this player and event
-        PlayerRank playerRankToRemove = event.getRankings().stream()
+        Optional<PlayerRank> playerRankToRemove = event.getRankings().stream()
                 .filter(rank -> rank.getPlayer().getUsername().equals(username))
-                .findFirst()
-                .orElseThrow(() -> new PlayerNotFoundException(username));
+                .findFirst();
+
+        if (playerRankToRemove.isEmpty()) {
+            // Players still on the waitlist can leave it the same way
+            WaitlistEntry entry = waitlistRepository.findByEventIdAndPlayerUsername(event.getId(), username)
+                    .orElseThrow(() -> new PlayerNotFoundException(username));
+            waitlistRepository.delete(entry);
+            return event;
+        }
 
-        event.getRankings().remove(playerRankToRemove);
+        event.getRankings().remove(playerRankToRemove.get());
+        Event savedEvent = eventRepository.save(event);
 
-        return eventRepository.save(event);
+        // The freed seat goes to the next player on the waitlist
+        if (event.getCapacity() != null) {
+            seatCounter.release(event.getId());
+            fillFromWaitlist(savedEvent);
+        }
+        return savedEvent;
     }
 
+    @Transactional
     public List<Player> updatePlayerEloAfterEvent(Long eventId) {
-        // if (eventId == null) {
-        //     throw new IllegalArgumentException("Event ID cannot be null");
-        // }
-    
-        Event event = eventRepository.findById(eventId)
-                        .orElseThrow(() -> new EventNotFoundException(eventId));
-
-
-        if(!allMatchesComplete(eventId)){
-            System.out.println("matches are not complete!!!!");
+        if (!allMatchesComplete(eventId)) {
             throw new MatchesNotCompleteException();
         }
 
-        for (PlayerRank pr : event.getRankings()) {
-            System.out.println("this are the player rankings:"+ pr);
-            Player p = pr.getPlayer();
-            p.setElo(pr.getTempElo());
-            if(pr.getTempElo() >= 2400){
-                pr.getPlayer().setReached2400(true);
-            }
-            playerRepository.save(p);
-        }
-
-        return playerRepository.findAll();
-        
+        // One bulk UPDATE over the event's participants rather than a save per player
+        playerRepository.applyEventElo(eventId);
+        return playerRepository.findParticipantsByEventId(eventId);
     }
 
     public boolean allMatchesComplete(Long eventId) {
@@ -242,33 +358,18 @@ public class EventServiceImpl implements EventService {
             throw new IllegalArgumentException("Event ID cannot be null");
         }
     
-        Event event = eventRepository.findById(eventId)
-                        .orElseThrow(() -> new EventNotFoundException(eventId));
-    
-        List<GroupStage> grpStages = event.getGroupStages();
-        List<KnockoutStage> knockoutStages = event.getKnockoutStages();
-    
-        if (grpStages.isEmpty() || knockoutStages.isEmpty()) {
-            throw new IllegalArgumentException("There are no group or knockout stages");
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException(eventId);
         }
     
-        for (GroupStage grpStage : grpStages) {
-            for (Match match : grpStage.getMatches()) {
-                if (!match.isFinished()) {
-                    return false;
-                }
-            }
-        }
-    
-        for (KnockoutStage knockoutStage : knockoutStages) {
-            for (Match match : knockoutStage.getMatches()) {
-                if (!match.isFinished()) {
-                    return false;
-                }
-            }
+        // Exists checks on the event_id foreign keys instead of loading the event's stage collections
+        if (!groupStageRepository.existsByEventId(eventId) || !knockoutStageRepository.existsByEventId(eventId)) {
+            throw new IllegalArgumentException("There are no group or knockout stages");
         }
     
-        return true;
+        // Each match keeps a persisted finished flag, so this is one indexed lookup instead of
+        // loading every match of every stage
+        return !matchRepository.existsByEventIdAndFinishedFalse(eventId);
     }
 
 
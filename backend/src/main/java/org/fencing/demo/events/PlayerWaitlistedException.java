@@ -0,0 +1,10 @@
+package org.fencing.demo.events;
+
+// Mapped to 202 Accepted with the waitlist position in RestExceptionHandler
+public class PlayerWaitlistedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public PlayerWaitlistedException(String username, long position) {
+        super("Event is full, " + username + " is on the waitlist at position " + position);
+    }
+}
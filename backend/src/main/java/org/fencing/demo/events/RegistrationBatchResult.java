@@ -0,0 +1,21 @@
+package org.fencing.demo.events;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.Getter;
+
+/**
+ * Outcome of {@link EventService#addPlayersToEvent}: every username that is neither rejected
+ * nor waitlisted was registered.
+ */
+@Getter
+public class RegistrationBatchResult {
+
+    private final Map<String, String> rejected = new LinkedHashMap<>();
+
+    private final Set<String> waitlisted = new LinkedHashSet<>();
+
+}
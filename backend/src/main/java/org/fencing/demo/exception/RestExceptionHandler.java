@@ -3,7 +3,10 @@ package org.fencing.demo.exception;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import org.fencing.demo.events.PlayerWaitlistedException;
+import org.fencing.demo.security.PasswordHashingOverloadedException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -54,5 +57,20 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<Object> handlePasswordHashingOverloadedException(PasswordHashingOverloadedException e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    @ExceptionHandler(PlayerWaitlistedException.class)
+    public ResponseEntity<Object> handlePlayerWaitlistedException(PlayerWaitlistedException e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", e.getMessage());
+        return ResponseEntity.accepted().body(body);
+    }
 
 }
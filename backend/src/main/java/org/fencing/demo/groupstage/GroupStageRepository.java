@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface GroupStageRepository extends JpaRepository<GroupStage, Long>{
     List<GroupStage> findAllByEventId(Long eventId);
+    boolean existsByEventId(Long eventId);
     void deleteByEventIdAndId(Long eventId, Long groupStageId);
 
 }
\ No newline at end of file
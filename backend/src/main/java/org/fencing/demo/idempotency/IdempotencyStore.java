@@ -0,0 +1,125 @@
+package org.fencing.demo.idempotency;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remembers the result of write requests sent with an {@code Idempotency-Key} header, so a client
+ * that resends the same request gets the original response back without the write running again.
+ * A duplicate that arrives while the original is still running waits for it. Failed requests are
+ * not remembered and can be retried with the same key. Entries expire after {@code ttl} and the
+ * store never holds more than {@code maxEntries} results.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<String, StoredRequest> requests = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Counter replays;
+
+    public IdempotencyStore(@Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.ttl:1h}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Idempotency store size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Idempotency TTL must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.replays = Counter.builder("idempotency.replays").register(meterRegistry);
+        Gauge.builder("idempotency.store.size", requests, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code action} once per {@code scope} and {@code key}. {@code fingerprint} must have
+     * value-based equality over the request contents; reusing a key for a request with a different
+     * fingerprint is rejected. Without a key the action simply runs.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String key, Object fingerprint, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String storeKey = scope + '\n' + key;
+        long now = System.nanoTime();
+        StoredRequest fresh = new StoredRequest(fingerprint, new CompletableFuture<>(), now + ttlNanos);
+        StoredRequest existing;
+        while ((existing = requests.putIfAbsent(storeKey, fresh)) != null) {
+            if (!existing.isExpired(now)) {
+                if (!Objects.equals(existing.fingerprint(), fingerprint)) {
+                    throw new IdempotencyKeyReusedException(key);
+                }
+                replays.increment();
+                return (T) await(existing);
+            }
+            requests.remove(storeKey, existing);
+        }
+
+        if (requests.size() > maxEntries) {
+            evict(now);
+        }
+        try {
+            T result = action.get();
+            fresh.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            requests.remove(storeKey, fresh);
+            fresh.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int size() {
+        return requests.size();
+    }
+
+    private static Object await(StoredRequest stored) {
+        try {
+            return stored.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    // Drop expired results first, then arbitrary finished ones; in-flight requests always stay
+    private void evict(long now) {
+        requests.values().removeIf(stored -> stored.isExpired(now));
+        Iterator<StoredRequest> iterator = requests.values().iterator();
+        while (requests.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().result().isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private record StoredRequest(Object fingerprint, CompletableFuture<Object> result, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt - now <= 0;
+        }
+    }
+}
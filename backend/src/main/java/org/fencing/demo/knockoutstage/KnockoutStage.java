@@ -8,6 +8,7 @@ import org.fencing.demo.events.Event;
 import org.fencing.demo.match.Match;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
@@ -16,9 +17,11 @@ import jakarta.persistence.GenerationType;
 // import jakarta.persistence.GeneratedValue;
 // import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,11 +32,13 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 @Entity
-@Table(name = "knockout_stage")
+@Table(name = "knockout_stage", indexes = @Index(name = "idx_knockout_stage_event_id", columnList = "event_id"))
 public class KnockoutStage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "knockout_stage_seq")
+    @SequenceGenerator(name = "knockout_stage_seq", sequenceName = "knockout_stage_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne
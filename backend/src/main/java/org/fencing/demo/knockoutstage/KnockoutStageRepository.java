@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface KnockoutStageRepository extends JpaRepository<KnockoutStage, Long>{
     List<KnockoutStage> findAllByEventId(Long eventId);
+    boolean existsByEventId(Long eventId);
 
     void deleteByEventIdAndId(Long eventId, Long knockoutStageId);
 }
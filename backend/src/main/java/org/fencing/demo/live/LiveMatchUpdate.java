@@ -0,0 +1,18 @@
+package org.fencing.demo.live;
+
+import java.util.List;
+
+import org.fencing.demo.match.MatchSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LiveMatchUpdate {
+
+    private final List<MatchSummary> updated;
+
+    // Matches that were deleted since the previous update
+    private final List<Long> removed;
+}
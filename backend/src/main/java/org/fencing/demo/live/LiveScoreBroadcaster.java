@@ -0,0 +1,233 @@
+package org.fencing.demo.live;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.match.MatchSummary;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed score changes to everyone watching an event over server-sent events.
+ * Changes are collected per match and flushed every {@code flushInterval}, so ten corrections to
+ * one bout in that window become one update. Each flush reads the changed matches and the
+ * standings once and serializes them once, however many viewers there are; viewers only differ
+ * in which queue the shared payload is put on. A viewer whose queue of {@code bufferSize}
+ * payloads is full is disconnected, and its EventSource reconnects to a fresh snapshot.
+ */
+@Component
+public class LiveScoreBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveScoreBroadcaster.class);
+
+    private final MatchRepository matchRepository;
+    private final PlayerRankRepository playerRankRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService senders;
+    private final Counter dropped;
+
+    private final Map<Long, EventChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public LiveScoreBroadcaster(MatchRepository matchRepository, PlayerRankRepository playerRankRepository,
+            ObjectMapper objectMapper,
+            @Value("${live.flush-interval:250ms}") Duration flushInterval,
+            @Value("${live.subscriber-buffer:32}") int bufferSize,
+            @Value("${live.sender-threads:4}") int senderThreads,
+            @Value("${live.emitter-timeout:30m}") Duration emitterTimeout,
+            MeterRegistry meterRegistry) {
+        if (bufferSize <= 0 || senderThreads <= 0) {
+            throw new IllegalArgumentException("Live feed buffer and sender threads must be positive");
+        }
+        this.matchRepository = matchRepository;
+        this.playerRankRepository = playerRankRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-score-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-score-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dropped = Counter.builder("live.subscribers.dropped").register(meterRegistry);
+        Gauge.builder("live.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long eventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(emitterTimeoutMillis), bufferSize);
+        channels.compute(eventId, (id, channel) -> {
+            EventChannel target = channel != null ? channel : new EventChannel(id);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+
+        Runnable remove = () -> unsubscribe(eventId, subscriber);
+        subscriber.emitter.onCompletion(remove);
+        subscriber.emitter.onTimeout(remove);
+        subscriber.emitter.onError(error -> remove.run());
+
+        // New viewers start from the current standings and then follow the deltas
+        deliver(subscriber, toEvent("standings", playerRankRepository.findStandingsByEventId(eventId)));
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchScoreChanged(MatchScoreChangedEvent event) {
+        EventChannel channel = channels.get(event.getEventId());
+        if (channel != null) {
+            channel.changedMatches.add(event.getMatchId());
+        }
+    }
+
+    private void flush() {
+        for (EventChannel channel : channels.values()) {
+            Set<Long> matchIds = new HashSet<>();
+            for (Iterator<Long> iterator = channel.changedMatches.iterator(); iterator.hasNext();) {
+                matchIds.add(iterator.next());
+                iterator.remove();
+            }
+            if (matchIds.isEmpty()) {
+                continue;
+            }
+            try {
+                List<MatchSummary> updated = matchRepository.findSummariesByIds(matchIds);
+                updated.forEach(summary -> matchIds.remove(summary.getId()));
+                Set<DataWithMediaType> matches = toEvent("matches", new LiveMatchUpdate(updated, new ArrayList<>(matchIds)));
+                Set<DataWithMediaType> standings = toEvent("standings",
+                        playerRankRepository.findStandingsByEventId(channel.eventId));
+                for (Subscriber subscriber : channel.subscribers) {
+                    deliver(subscriber, matches);
+                    deliver(subscriber, standings);
+                }
+            } catch (RuntimeException e) {
+                // Keep the flusher alive; the next change to the event sends fresh standings anyway
+                log.warn("Could not publish live scores for event {}", channel.eventId, e);
+            }
+        }
+    }
+
+    private void deliver(Subscriber subscriber, Set<DataWithMediaType> payload) {
+        if (!subscriber.queue.offer(payload)) {
+            dropped.increment();
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> payload;
+            while ((payload = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(payload);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Viewer went away or the emitter already completed
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.scheduled.set(false);
+            if (!subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true)) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void unsubscribe(Long eventId, Subscriber subscriber) {
+        channels.computeIfPresent(eventId, (id, channel) -> {
+            if (channel.subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private Set<DataWithMediaType> toEvent(String name, Object data) {
+        try {
+            return SseEmitter.event()
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(data), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize live " + name, e);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private static class EventChannel {
+        private final Long eventId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Set<Long> changedMatches = ConcurrentHashMap.newKeySet();
+
+        EventChannel(Long eventId) {
+            this.eventId = eventId;
+        }
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
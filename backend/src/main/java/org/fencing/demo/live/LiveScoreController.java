@@ -0,0 +1,29 @@
+package org.fencing.demo.live;
+
+import org.fencing.demo.events.EventNotFoundException;
+import org.fencing.demo.events.EventRepository;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class LiveScoreController {
+
+    private final LiveScoreBroadcaster broadcaster;
+    private final EventRepository eventRepository;
+
+    public LiveScoreController(LiveScoreBroadcaster broadcaster, EventRepository eventRepository) {
+        this.broadcaster = broadcaster;
+        this.eventRepository = eventRepository;
+    }
+
+    @GetMapping(path = "/tournaments/{tournamentId}/events/{eventId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException(eventId);
+        }
+        return broadcaster.subscribe(eventId);
+    }
+}
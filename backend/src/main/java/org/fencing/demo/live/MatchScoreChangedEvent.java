@@ -0,0 +1,17 @@
+package org.fencing.demo.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published whenever a match result is written or removed. Listeners only see it once the
+ * surrounding transaction has committed.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchScoreChangedEvent {
+
+    private final Long eventId;
+
+    private final Long matchId;
+}
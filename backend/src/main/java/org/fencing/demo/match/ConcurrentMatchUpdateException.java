@@ -0,0 +1,13 @@
+package org.fencing.demo.match;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConcurrentMatchUpdateException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentMatchUpdateException(int attempts) {
+        super("Match was updated concurrently " + attempts + " times in a row, please resubmit");
+    }
+}
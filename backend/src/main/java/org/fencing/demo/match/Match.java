@@ -8,12 +8,21 @@ import org.fencing.demo.knockoutstage.KnockoutStage;
 import org.fencing.demo.player.Player;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,38 +33,67 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_event_finished", columnList = "event_id, finished"),
+        @Index(name = "idx_matches_group_stage_finished", columnList = "group_stage_id, finished"),
+        @Index(name = "idx_matches_knockout_stage_finished", columnList = "knockout_stage_id, finished"),
+        @Index(name = "idx_matches_event_id", columnList = "event_id, id"),
+        @Index(name = "idx_matches_player1_id", columnList = "player1_id, id"),
+        @Index(name = "idx_matches_player2_id", columnList = "player2_id, id")
+})
+// Everything a serialized Match shows, fetched in one joined select
+@NamedEntityGraph(name = Match.DETAIL_GRAPH, attributeNodes = {
+        @NamedAttributeNode(value = "event", subgraph = "event"),
+        @NamedAttributeNode("groupStage"),
+        @NamedAttributeNode("knockoutStage"),
+        @NamedAttributeNode("player1"),
+        @NamedAttributeNode("player2")
+}, subgraphs = @NamedSubgraph(name = "event", attributeNodes = @NamedAttributeNode("tournament")))
 
 public class Match {
 
+    public static final String DETAIL_GRAPH = "Match.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_seq")
+    @SequenceGenerator(name = "match_seq", sequenceName = "match_seq", allocationSize = 50)
     private long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
-    @ManyToOne(optional = true)
+    @ManyToOne(fetch = FetchType.LAZY, optional = true)
     @JoinColumn(name = "group_stage_id")
     private GroupStage groupStage;
 
-    @ManyToOne(optional = true)
+    @ManyToOne(fetch = FetchType.LAZY, optional = true)
     @JoinColumn(name = "knockout_stage_id")
     private KnockoutStage knockoutStage;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player1_id", nullable = false)
     private Player player1;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player2_id", nullable = false)
     private Player player2;
     
     private int player1Score;
     private int player2Score;
 
-    // added - tbc
+    // What this result added to each fencer's tempElo, so a correction can take it back out;
+    // null while no result has been applied
+    private Integer player1EloChange;
+    private Integer player2EloChange;
+
+    // Set while a scoring box is fencing the bout: the scores are running totals, not a result
+    private boolean inProgress;
+
+    @Version
+    private long version;
+
+    // Persisted copy of isFinished() so completion can be checked with an indexed query
     private boolean finished;
 
     public Player getWinner() {
@@ -88,11 +126,21 @@ public class Match {
     }
 
     public boolean isFinished(){
-        if((player1Score > 0 || player2Score > 0) 
+        if(!inProgress && (player1Score > 0 || player2Score > 0) 
         && player1 != null && player2 != null){
             return true;
         }
         return false;
     }
 
+    public boolean hasAppliedResult() {
+        return player1EloChange != null && player2EloChange != null;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void recordFinished() {
+        this.finished = isFinished();
+    }
+
 }
@@ -0,0 +1,29 @@
+package org.fencing.demo.match;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class MatchBatchResult {
+
+    private List<Match> updated = new ArrayList<>();
+
+    private List<ItemError> failures = new ArrayList<>();
+
+    public void addFailure(Long matchId, String message) {
+        failures.add(new ItemError(matchId, message));
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ItemError {
+        private Long matchId;
+        private String message;
+    }
+}
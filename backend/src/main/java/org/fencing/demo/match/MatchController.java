@@ -1,8 +1,11 @@
 package org.fencing.demo.match;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.fencing.demo.idempotency.IdempotencyStore;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 //import java.util.Set;
@@ -11,9 +14,13 @@ import org.springframework.web.bind.annotation.*;
 public class MatchController {
 
     private final MatchService matchService;
+    private final MatchUpdateRetrier retrier;
+    private final IdempotencyStore idempotencyStore;
 
-    public MatchController(MatchService matchService) {
+    public MatchController(MatchService matchService, MatchUpdateRetrier retrier, IdempotencyStore idempotencyStore) {
         this.matchService = matchService;
+        this.retrier = retrier;
+        this.idempotencyStore = idempotencyStore;
     }
 
 
@@ -37,8 +44,9 @@ public class MatchController {
 
     @GetMapping("/matches")
     @ResponseStatus(HttpStatus.OK)
-    public List<Match> getAllMatches() {
-        return matchService.getAllMatches();
+    public MatchPage getMatches(MatchFilter filter, @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+        return matchService.getMatches(filter, cursor, limit);
     }
     // @GetMapping("/upcoming-matches")
     // public List<Match> getUpcomingMatches() {
@@ -56,8 +64,23 @@ public class MatchController {
 
     @PutMapping("/tournaments/{tournamentId}/events/{eventId}/match/{matchId}")
     @ResponseStatus(HttpStatus.OK)
-    public Match updateMatch(@PathVariable Long eventId, @PathVariable Long matchId, @RequestBody Match match) {
-        return matchService.updateMatch(eventId, matchId, match);
+    public Match updateMatch(@PathVariable Long eventId, @PathVariable Long matchId, @RequestBody Match match,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        // Match equality is id-based, so fingerprint the fields that are actually applied
+        List<Object> fingerprint = Arrays.asList(eventId, matchId,
+                match.getPlayer1() == null ? null : match.getPlayer1().getId(),
+                match.getPlayer2() == null ? null : match.getPlayer2().getId(),
+                match.getPlayer1Score(), match.getPlayer2Score());
+        return idempotencyStore.execute(idempotencyScope("match/" + matchId), idempotencyKey, fingerprint,
+                () -> retrier.execute("update", () -> matchService.updateMatch(eventId, matchId, match)));
+    }
+
+    @PutMapping("/tournaments/{tournamentId}/events/{eventId}/matches")
+    @ResponseStatus(HttpStatus.OK)
+    public MatchBatchResult updateMatches(@PathVariable Long eventId, @RequestBody List<MatchScore> scores,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return idempotencyStore.execute(idempotencyScope("event/" + eventId + "/matches"), idempotencyKey, scores,
+                () -> retrier.execute("batch", () -> matchService.updateMatches(eventId, scores)));
     }
 
     @DeleteMapping("/tournaments/{tournamentId}/events/{eventId}/match/{matchId}")
@@ -66,5 +89,10 @@ public class MatchController {
         matchService.deleteMatch(eventId, matchId);
     }
 
+    // Keys are per caller and per resource, so two tablets can't collide on the same key
+    private static String idempotencyScope(String resource) {
+        return SecurityContextHolder.getContext().getAuthentication().getName() + ":" + resource;
+    }
+
     
 }
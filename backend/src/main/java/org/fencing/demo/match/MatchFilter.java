@@ -0,0 +1,31 @@
+package org.fencing.demo.match;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.Data;
+
+/**
+ * Optional filters for the match listing, bound from query parameters. {@code from} and
+ * {@code to} are inclusive and apply to the event's start date.
+ */
+@Data
+public class MatchFilter {
+
+    private Long eventId;
+
+    private Long groupStageId;
+
+    private Long knockoutStageId;
+
+    private Long playerId;
+
+    private Boolean finished;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
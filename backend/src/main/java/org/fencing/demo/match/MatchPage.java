@@ -0,0 +1,16 @@
+package org.fencing.demo.match;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MatchPage {
+
+    private final List<MatchSummary> items;
+
+    // Pass back as ?cursor= to get the next page; null on the last page
+    private final Long nextCursor;
+}
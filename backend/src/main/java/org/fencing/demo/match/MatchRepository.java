@@ -1,18 +1,49 @@
 package org.fencing.demo.match;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface MatchRepository extends JpaRepository<Match, Long> {
+public interface MatchRepository extends JpaRepository<Match, Long>, MatchRepositoryCustom {
+
+    // Match associations are lazy; reads that return a Match fetch them with the detail graph in one select
+    @Override
+    @EntityGraph(Match.DETAIL_GRAPH)
+    Optional<Match> findById(Long id);
+
+    @EntityGraph(Match.DETAIL_GRAPH)
+    List<Match> findByGroupStageIdOrderByIdAsc(Long groupStageId);
+
+    @EntityGraph(Match.DETAIL_GRAPH)
+    List<Match> findByKnockoutStageIdOrderByIdAsc(Long knockoutStageId);
 
     Set<Match> findByEventId(Long eventId);
 
     void deleteByEventIdAndId(Long eventId, Long matchId);
 
+    boolean existsByEventIdAndFinishedFalse(Long eventId);
+
+    boolean existsByGroupStageIdAndFinishedFalse(Long groupStageId);
+
+    boolean existsByKnockoutStageIdAndFinishedFalse(Long knockoutStageId);
+
+    @Query("SELECT m.event.id FROM Match m WHERE m.id = :matchId")
+    Optional<Long> findEventIdById(@Param("matchId") Long matchId);
+
+    // Each row is {player1Id, player1EloChange, player2Id, player2EloChange} for a match with an applied result
+    @Query("SELECT m.player1.id, m.player1EloChange, m.player2.id, m.player2EloChange FROM Match m " +
+           "WHERE m.event.id = :eventId AND m.player1EloChange IS NOT NULL")
+    List<Object[]> findAppliedEloChangesByEventId(@Param("eventId") Long eventId);
+
+    // Matches that currently carry a result, whether or not it was applied to the rankings
+    @Query("SELECT m.id FROM Match m WHERE m.event.id = :eventId AND (m.finished = true OR m.player1EloChange IS NOT NULL)")
+    List<Long> findScoredMatchIdsByEventId(@Param("eventId") Long eventId);
+
     @Query("SELECT m FROM Match m WHERE m.player1.id = :playerId OR m.player2.id = :playerId")
     List<Match> findMatchesByPlayerId(@Param("playerId") Long playerId);
 }
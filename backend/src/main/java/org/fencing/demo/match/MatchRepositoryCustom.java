@@ -0,0 +1,15 @@
+package org.fencing.demo.match;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MatchRepositoryCustom {
+
+    /**
+     * Returns up to {@code limit} matches with an id below {@code cursor} (or the newest ones when
+     * the cursor is null), newest first.
+     */
+    List<MatchSummary> findSummaries(MatchFilter filter, Long cursor, int limit);
+
+    List<MatchSummary> findSummariesByIds(Collection<Long> ids);
+}
@@ -0,0 +1,79 @@
+package org.fencing.demo.match;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+class MatchRepositoryImpl implements MatchRepositoryCustom {
+
+    private static final String SELECT_SUMMARIES =
+            "SELECT new org.fencing.demo.match.MatchSummary(m.id, e.id, e.startDate, e.endDate, e.gender, " +
+            "e.weapon, t.id, t.name, t.venue, gs.id, ks.id, p1.id, p1.username, p2.id, p2.username, " +
+            "m.player1Score, m.player2Score, m.finished) " +
+            "FROM Match m JOIN m.event e JOIN e.tournament t JOIN m.player1 p1 JOIN m.player2 p2 " +
+            "LEFT JOIN m.groupStage gs LEFT JOIN m.knockoutStage ks";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Keyset pagination on the primary key: each page is an index range scan from the cursor,
+    // so it costs the same on page 1 and page 10,000. Only filters that are set end up in the query.
+    @Override
+    public List<MatchSummary> findSummaries(MatchFilter filter, Long cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT_SUMMARIES).append(" WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (cursor != null) {
+            jpql.append(" AND m.id < :cursor");
+            parameters.put("cursor", cursor);
+        }
+        if (filter.getEventId() != null) {
+            jpql.append(" AND e.id = :eventId");
+            parameters.put("eventId", filter.getEventId());
+        }
+        if (filter.getGroupStageId() != null) {
+            jpql.append(" AND gs.id = :groupStageId");
+            parameters.put("groupStageId", filter.getGroupStageId());
+        }
+        if (filter.getKnockoutStageId() != null) {
+            jpql.append(" AND ks.id = :knockoutStageId");
+            parameters.put("knockoutStageId", filter.getKnockoutStageId());
+        }
+        if (filter.getPlayerId() != null) {
+            jpql.append(" AND (p1.id = :playerId OR p2.id = :playerId)");
+            parameters.put("playerId", filter.getPlayerId());
+        }
+        if (filter.getFinished() != null) {
+            jpql.append(" AND m.finished = :finished");
+            parameters.put("finished", filter.getFinished());
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" AND e.startDate >= :from");
+            parameters.put("from", filter.getFrom().atStartOfDay());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" AND e.startDate < :to");
+            parameters.put("to", filter.getTo().plusDays(1).atStartOfDay());
+        }
+        jpql.append(" ORDER BY m.id DESC");
+
+        TypedQuery<MatchSummary> query = entityManager.createQuery(jpql.toString(), MatchSummary.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<MatchSummary> findSummariesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(SELECT_SUMMARIES + " WHERE m.id IN :ids ORDER BY m.id", MatchSummary.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+}
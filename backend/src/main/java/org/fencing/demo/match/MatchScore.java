@@ -0,0 +1,17 @@
+package org.fencing.demo.match;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchScore {
+
+    private Long matchId;
+
+    private int player1Score;
+
+    private int player2Score;
+}
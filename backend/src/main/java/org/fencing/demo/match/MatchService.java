@@ -8,6 +8,8 @@ public interface MatchService {
 
     List<Match> getAllMatches();
 
+    MatchPage getMatches(MatchFilter filter, Long cursor, Integer limit);
+
     List<Match> getAllMatchesForKnockoutStageByKnockoutStageId(Long knockoutStageId);
 
     List<Match> getAllMatchesForGroupStageByGroupStageId(Long groupStageId);
@@ -18,5 +20,7 @@ public interface MatchService {
 
     Match updateMatch(Long eventId, Long matchId, Match newMatch);
 
+    MatchBatchResult updateMatches(Long eventId, List<MatchScore> scores);
+
     void deleteMatch(Long eventId, Long matchId);
 }
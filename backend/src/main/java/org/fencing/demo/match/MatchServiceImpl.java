@@ -1,33 +1,53 @@
 package org.fencing.demo.match;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-import org.fencing.demo.events.Event;
 import org.fencing.demo.events.EventRepository;
+import org.fencing.demo.groupstage.GroupStage;
 import org.fencing.demo.groupstage.GroupStageNotFoundException;
 import org.fencing.demo.groupstage.GroupStageRepository;
 import org.fencing.demo.knockoutstage.KnockoutStageNotFoundException;
 import org.fencing.demo.knockoutstage.KnockoutStageRepository;
+import org.fencing.demo.live.MatchScoreChangedEvent;
 import org.fencing.demo.player.PlayerRepository;
+import org.fencing.demo.player.Player;
 import org.fencing.demo.playerrank.PlayerRank;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.fencing.demo.scorelog.ScoreLogEntry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MatchServiceImpl implements MatchService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final MatchRepository matchRepository;
     private final KnockoutStageRepository knockoutStageRepository;
     private final GroupStageRepository groupStageRepository;
     private final PlayerRepository playerRepository;
+    private final PlayerRankRepository playerRankRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MatchServiceImpl(MatchRepository matchRepository, EventRepository eventRepository, 
     KnockoutStageRepository knockoutStageRepository, GroupStageRepository groupStageRepository,
-    PlayerRepository playerRepository) {
+    PlayerRepository playerRepository, PlayerRankRepository playerRankRepository,
+    ApplicationEventPublisher eventPublisher) {
         this.matchRepository = matchRepository;
         this.knockoutStageRepository = knockoutStageRepository;
         this.groupStageRepository = groupStageRepository;
         this.playerRepository = playerRepository;
+        this.playerRankRepository = playerRankRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -40,7 +60,7 @@ public class MatchServiceImpl implements MatchService {
         if (!knockoutStageRepository.existsById(knockoutStageId)) {
             throw new KnockoutStageNotFoundException(knockoutStageId);
         }
-        return knockoutStageRepository.findById(knockoutStageId).get().getMatches();
+        return matchRepository.findByKnockoutStageIdOrderByIdAsc(knockoutStageId);
     }
 
     public List<Match> getAllMatchesForGroupStageByGroupStageId(Long groupStageId) {
@@ -50,7 +70,7 @@ public class MatchServiceImpl implements MatchService {
         if (!groupStageRepository.existsById(groupStageId)) {
             throw new GroupStageNotFoundException(groupStageId);
         }
-        return groupStageRepository.findById(groupStageId).get().getMatches();
+        return matchRepository.findByGroupStageIdOrderByIdAsc(groupStageId);
     }
 
     @Override
@@ -66,6 +86,21 @@ public class MatchServiceImpl implements MatchService {
     public List<Match> getAllMatches() {
         return matchRepository.findAll();
     }
+
+    @Override
+    public MatchPage getMatches(MatchFilter filter, Long cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        // One extra row tells us whether there is another page without a count query
+        List<MatchSummary> rows = matchRepository.findSummaries(filter, cursor, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new MatchPage(rows, null);
+        }
+        List<MatchSummary> items = rows.subList(0, pageSize);
+        return new MatchPage(new ArrayList<>(items), items.get(pageSize - 1).getId());
+    }
     // @Override
     // public List<Match> getMatchesScheduledForToday(String username) {
     //     // Retrieve the player by username
@@ -118,28 +153,154 @@ public class MatchServiceImpl implements MatchService {
             throw new IllegalArgumentException("Event cannot be changed");
         }
 
-        Event event = existingMatch.getEvent();
-
-        // Fetch PlayerRank for Player 1 and Player 2
-        PlayerRank player1Rank = event.getRankings().stream()
-                                    .filter(rank -> rank.getPlayer().equals(newMatch.getPlayer1()))
-                                    .findFirst()
+        // Fetch PlayerRank for Player 1 and Player 2 through the (event_id, player_id) index
+        // instead of loading and scanning the event's whole ranking set
+        PlayerRank player1Rank = findPlayerRank(eventId, newMatch.getPlayer1())
                                     .orElseThrow(() -> new IllegalArgumentException("Player 1 is not registered in this event"));
 
-        PlayerRank player2Rank = event.getRankings().stream()
-                                    .filter(rank -> rank.getPlayer().equals(newMatch.getPlayer2()))
-                                    .findFirst()
+        PlayerRank player2Rank = findPlayerRank(eventId, newMatch.getPlayer2())
                                     .orElseThrow(() -> new IllegalArgumentException("Player 2 is not registered in this event"));
         
+        // A correction first takes the previous result back out of the (possibly different) fencers' ranks
+        revertResult(eventId, existingMatch);
+
         existingMatch.setPlayer1(newMatch.getPlayer1());
         existingMatch.setPlayer2(newMatch.getPlayer2());
-        existingMatch.setPlayer1Score(newMatch.getPlayer1Score());
-        existingMatch.setPlayer2Score(newMatch.getPlayer2Score());
-        
-        player1Rank.updateAfterMatch(newMatch.getPlayer1Score(), newMatch.getPlayer2Score(), player2Rank);
-        player2Rank.updateAfterMatch(newMatch.getPlayer2Score(), newMatch.getPlayer1Score(), player1Rank);
+        applyResult(existingMatch, player1Rank, player2Rank, newMatch.getPlayer1Score(), newMatch.getPlayer2Score());
         
-        return matchRepository.save(existingMatch);
+        Match savedMatch = matchRepository.save(existingMatch);
+        refreshGroupStageCompletion(savedMatch.getGroupStage());
+        eventPublisher.publishEvent(ScoreLogEntry.result(eventId, savedMatch));
+        eventPublisher.publishEvent(new MatchScoreChangedEvent(eventId, matchId));
+        return savedMatch;
+    }
+
+    private void applyResult(Match match, PlayerRank player1Rank, PlayerRank player2Rank,
+            int player1Score, int player2Score) {
+        match.setPlayer1Score(player1Score);
+        match.setPlayer2Score(player2Score);
+        // A scored result ends any bout still running on a scoring box
+        match.setInProgress(false);
+
+        int player1EloBefore = player1Rank.getTempElo();
+        int player2EloBefore = player2Rank.getTempElo();
+        player1Rank.updateAfterMatch(player1Score, player2Score, player2Rank);
+        player2Rank.updateAfterMatch(player2Score, player1Score, player1Rank);
+        match.setPlayer1EloChange(player1Rank.getTempElo() - player1EloBefore);
+        match.setPlayer2EloChange(player2Rank.getTempElo() - player2EloBefore);
+    }
+
+    private void revertResult(Long eventId, Match match) {
+        if (match.hasAppliedResult()) {
+            revertResult(match,
+                    findPlayerRank(eventId, match.getPlayer1()).orElse(null),
+                    findPlayerRank(eventId, match.getPlayer2()).orElse(null));
+        }
+    }
+
+    // Only the two ranks of this match are touched; other bouts keep their recorded changes
+    private void revertResult(Match match, PlayerRank player1Rank, PlayerRank player2Rank) {
+        if (!match.hasAppliedResult()) {
+            return;
+        }
+        if (player1Rank != null) {
+            player1Rank.revertMatch(match.getPlayer1Score(), match.getPlayer2Score(), match.getPlayer1EloChange());
+        }
+        if (player2Rank != null) {
+            player2Rank.revertMatch(match.getPlayer2Score(), match.getPlayer1Score(), match.getPlayer2EloChange());
+        }
+        match.setPlayer1EloChange(null);
+        match.setPlayer2EloChange(null);
+    }
+
+    private Optional<PlayerRank> findPlayerRank(Long eventId, Player player) {
+        if (player == null) {
+            return Optional.empty();
+        }
+        return playerRankRepository.findByEventIdAndPlayerId(eventId, player.getId());
+    }
+
+    // The exists query flushes the saved match first, so its finished flag is already up to date
+    private void refreshGroupStageCompletion(GroupStage groupStage) {
+        if (groupStage != null) {
+            groupStage.setAllMatchesCompleted(!matchRepository.existsByGroupStageIdAndFinishedFalse(groupStage.getId()));
+        }
+    }
+
+    /**
+     * Scores a whole pool sheet in one transaction. Invalid entries are reported in the result and
+     * skipped; the rest are applied in match id order so the ranking updates are reproducible.
+     */
+    @Override
+    @Transactional
+    public MatchBatchResult updateMatches(Long eventId, List<MatchScore> scores) {
+        if (eventId == null || scores == null) {
+            throw new IllegalArgumentException("Event ID and match scores cannot be null");
+        }
+        MatchBatchResult result = new MatchBatchResult();
+
+        Set<Long> matchIds = new HashSet<>();
+        List<MatchScore> candidates = new ArrayList<>();
+        for (MatchScore score : scores) {
+            if (score.getMatchId() == null) {
+                result.addFailure(null, "Match ID cannot be null");
+            } else if (score.getPlayer1Score() < 0 || score.getPlayer2Score() < 0) {
+                result.addFailure(score.getMatchId(), "Scores cannot be negative");
+            } else if (!matchIds.add(score.getMatchId())) {
+                result.addFailure(score.getMatchId(), "Match appears more than once in the batch");
+            } else {
+                candidates.add(score);
+            }
+        }
+
+        Map<Long, Match> matches = new HashMap<>();
+        matchRepository.findAllById(matchIds).forEach(match -> matches.put(match.getId(), match));
+        Set<Long> playerIds = new HashSet<>();
+        for (Match match : matches.values()) {
+            playerIds.add(match.getPlayer1().getId());
+            playerIds.add(match.getPlayer2().getId());
+        }
+        Map<Long, PlayerRank> ranks = new HashMap<>();
+        if (!playerIds.isEmpty()) {
+            playerRankRepository.findByEventIdAndPlayerIdIn(eventId, playerIds)
+                    .forEach(rank -> ranks.put(rank.getPlayer().getId(), rank));
+        }
+
+        candidates.sort(Comparator.comparing(MatchScore::getMatchId));
+        Map<Long, GroupStage> touchedStages = new HashMap<>();
+        for (MatchScore score : candidates) {
+            Match match = matches.get(score.getMatchId());
+            if (match == null) {
+                result.addFailure(score.getMatchId(), "Could not find match " + score.getMatchId());
+                continue;
+            }
+            if (match.getEvent().getId() != eventId) {
+                result.addFailure(score.getMatchId(), "Match does not belong to the specified event");
+                continue;
+            }
+            PlayerRank player1Rank = ranks.get(match.getPlayer1().getId());
+            PlayerRank player2Rank = ranks.get(match.getPlayer2().getId());
+            if (player1Rank == null || player2Rank == null) {
+                result.addFailure(score.getMatchId(), "Both players must be registered in this event");
+                continue;
+            }
+
+            revertResult(match, player1Rank, player2Rank);
+            applyResult(match, player1Rank, player2Rank, score.getPlayer1Score(), score.getPlayer2Score());
+            result.getUpdated().add(match);
+            if (match.getGroupStage() != null) {
+                touchedStages.put(match.getGroupStage().getId(), match.getGroupStage());
+            }
+        }
+
+        // Dirty matches and ranks are flushed together as JDBC batches on commit
+        matchRepository.saveAll(result.getUpdated());
+        touchedStages.values().forEach(this::refreshGroupStageCompletion);
+        for (Match match : result.getUpdated()) {
+            eventPublisher.publishEvent(ScoreLogEntry.result(eventId, match));
+            eventPublisher.publishEvent(new MatchScoreChangedEvent(eventId, match.getId()));
+        }
+        return result;
     }
 
     @Override
@@ -155,6 +316,10 @@ public class MatchServiceImpl implements MatchService {
             throw new IllegalArgumentException("Match does not belong to the specified event");
         }
         
+        revertResult(eventId, match);
         matchRepository.delete(match);
+        refreshGroupStageCompletion(match.getGroupStage());
+        eventPublisher.publishEvent(ScoreLogEntry.deletion(eventId, matchId));
+        eventPublisher.publishEvent(new MatchScoreChangedEvent(eventId, matchId));
     }
 }
@@ -0,0 +1,70 @@
+package org.fencing.demo.match;
+
+import java.time.LocalDateTime;
+
+import org.fencing.demo.events.Gender;
+import org.fencing.demo.events.WeaponType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Read-only view of a match for listings. It carries just enough of the event, tournament and
+ * fencers to render a match card, instead of the full entity graph.
+ */
+@Getter
+public class MatchSummary {
+
+    private final long id;
+    private final EventSummary event;
+    private final Long groupStageId;
+    private final Long knockoutStageId;
+    private final PlayerSummary player1;
+    private final PlayerSummary player2;
+    private final int player1Score;
+    private final int player2Score;
+    private final boolean finished;
+
+    // Called by the JPQL constructor expression in MatchRepositoryImpl
+    public MatchSummary(long id, long eventId, LocalDateTime startDate, LocalDateTime endDate, Gender gender,
+            WeaponType weapon, long tournamentId, String tournamentName, String venue, Long groupStageId,
+            Long knockoutStageId, Long player1Id, String player1Username, Long player2Id, String player2Username,
+            int player1Score, int player2Score, boolean finished) {
+        this.id = id;
+        this.event = new EventSummary(eventId, startDate, endDate, gender, weapon,
+                new TournamentSummary(tournamentId, tournamentName, venue));
+        this.groupStageId = groupStageId;
+        this.knockoutStageId = knockoutStageId;
+        this.player1 = new PlayerSummary(player1Id, player1Username);
+        this.player2 = new PlayerSummary(player2Id, player2Username);
+        this.player1Score = player1Score;
+        this.player2Score = player2Score;
+        this.finished = finished;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class EventSummary {
+        private final long id;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final Gender gender;
+        private final WeaponType weapon;
+        private final TournamentSummary tournament;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TournamentSummary {
+        private final long id;
+        private final String name;
+        private final String venue;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PlayerSummary {
+        private final Long id;
+        private final String username;
+    }
+}
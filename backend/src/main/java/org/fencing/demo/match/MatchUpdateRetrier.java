@@ -0,0 +1,65 @@
+package org.fencing.demo.match;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Re-runs a match update when its transaction loses an optimistic lock race on a Match or
+ * PlayerRank version. Each attempt is a fresh transaction, so it must be called from outside the
+ * transactional service. After {@code maxAttempts} conflicts the caller gets a 409.
+ */
+@Component
+public class MatchUpdateRetrier {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final MeterRegistry meterRegistry;
+
+    public MatchUpdateRetrier(
+            @Value("${match.update.retry.max-attempts:3}") int maxAttempts,
+            @Value("${match.update.retry.backoff:20ms}") Duration backoff,
+            MeterRegistry meterRegistry) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Match update attempts must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return update.get();
+            } catch (OptimisticLockingFailureException e) {
+                boolean retrying = attempt < maxAttempts;
+                meterRegistry.counter("match.update.conflicts",
+                        "operation", operation, "outcome", retrying ? "retried" : "exhausted").increment();
+                if (!retrying) {
+                    throw new ConcurrentMatchUpdateException(attempt);
+                }
+                pause(attempt);
+            }
+        }
+    }
+
+    // Linear backoff with jitter so two tablets that collided don't collide again in lockstep
+    private void pause(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying match update");
+        }
+    }
+}
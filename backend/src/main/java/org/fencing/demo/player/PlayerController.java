@@ -1,8 +1,11 @@
 package org.fencing.demo.player;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,9 +20,11 @@ import jakarta.validation.Valid;
 @RestController
 public class PlayerController {
     private PlayerService playerService;
+    private PlayerImportService playerImportService;
 
-    public PlayerController(PlayerService ps) {
+    public PlayerController(PlayerService ps, PlayerImportService playerImportService) {
         this.playerService = ps;
+        this.playerImportService = playerImportService;
     }
 
     // List players (all? or in a tournament? or works for both)
@@ -48,6 +53,12 @@ public class PlayerController {
         return savedPlayer;
     }
 
+    // Bulk import players from a CSV body: username,password,email,gender[,role]
+    @PostMapping(value = "/players/import", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE })
+    public PlayerImportResult importPlayers(Reader csv) throws IOException {
+        return playerImportService.importPlayers(csv);
+    }
+
     // updates player info
     @PutMapping("/players/{id}")
     public Player updatePlayer(@PathVariable Long id, @Valid @RequestBody Player updatedPlayerInfo) {
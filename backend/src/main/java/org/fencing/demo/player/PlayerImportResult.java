@@ -0,0 +1,30 @@
+package org.fencing.demo.player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PlayerImportResult {
+
+    private int imported;
+
+    private List<RowError> failures = new ArrayList<>();
+
+    public void addFailure(int line, String username, String message) {
+        failures.add(new RowError(line, username, message));
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private int line;
+        private String username;
+        private String message;
+    }
+}
@@ -0,0 +1,273 @@
+package org.fencing.demo.player;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+import org.fencing.demo.events.Gender;
+import org.fencing.demo.user.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Imports players from a CSV stream ({@code username,password,email,gender[,role]}).
+ * Rows are handled in chunks: passwords in a chunk are hashed in parallel and the chunk is
+ * written with JDBC batch inserts. Bad rows are reported in the result and skipped, they
+ * never abort the rest of the import.
+ */
+@Service
+public class PlayerImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO app_user (username, password, email, role, token_version) VALUES (?, ?, ?, ?, 0)";
+    private static final String INSERT_PLAYER_SQL =
+            "INSERT INTO players (id, elo, gender, reached2400) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ForkJoinPool hashingPool;
+    private final int batchSize;
+
+    public PlayerImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder,
+            @Value("${player.import.hashing-parallelism:4}") int hashingParallelism,
+            @Value("${player.import.batch-size:500}") int batchSize) {
+        if (hashingParallelism <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Import parallelism and batch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.hashingPool = new ForkJoinPool(hashingParallelism);
+        this.batchSize = batchSize;
+    }
+
+    public PlayerImportResult importPlayers(Reader reader) throws IOException {
+        PlayerImportResult result = new PlayerImportResult();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && line.trim().toLowerCase().startsWith("username"))) {
+                continue;
+            }
+            ImportRow row = parseRow(lineNumber, line, result);
+            if (row == null) {
+                continue;
+            }
+            if (!seenUsernames.add(row.username)) {
+                result.addFailure(lineNumber, row.username, "Duplicate username in file");
+                continue;
+            }
+            if (!seenEmails.add(row.email)) {
+                result.addFailure(lineNumber, row.username, "Duplicate email in file");
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == batchSize) {
+                importChunk(chunk, result);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        return result;
+    }
+
+    private ImportRow parseRow(int lineNumber, String line, PlayerImportResult result) {
+        List<String> fields = splitCsvLine(line);
+        String username = fields.isEmpty() ? null : fields.get(0);
+        if (fields.size() < 4 || fields.size() > 5) {
+            result.addFailure(lineNumber, username, "Expected username,password,email,gender[,role]");
+            return null;
+        }
+        String password = fields.get(1);
+        String email = fields.get(2);
+        if (username.isEmpty() || password.isEmpty()) {
+            result.addFailure(lineNumber, username, "Username and password are required");
+            return null;
+        }
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
+            result.addFailure(lineNumber, username, "Email should be valid");
+            return null;
+        }
+        try {
+            Gender gender = Gender.valueOf(fields.get(3).toUpperCase());
+            Role role = fields.size() == 5 && !fields.get(4).isEmpty()
+                    ? Role.valueOf(fields.get(4).toUpperCase())
+                    : Role.USER;
+            return new ImportRow(lineNumber, username, password, email, gender, role);
+        } catch (IllegalArgumentException e) {
+            result.addFailure(lineNumber, username, "Unknown gender or role");
+            return null;
+        }
+    }
+
+    private void importChunk(List<ImportRow> chunk, PlayerImportResult result) {
+        List<ImportRow> rows = withoutExistingUsers(chunk, result);
+        if (rows.isEmpty()) {
+            return;
+        }
+        hashPasswords(rows);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertRows(rows));
+            result.setImported(result.getImported() + rows.size());
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered one of these users concurrently, retry row by row to find out which
+            for (ImportRow row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertRows(List.of(row)));
+                    result.setImported(result.getImported() + 1);
+                } catch (DataIntegrityViolationException rowException) {
+                    result.addFailure(row.line, row.username, "Username or email already exists");
+                }
+            }
+        }
+    }
+
+    private List<ImportRow> withoutExistingUsers(List<ImportRow> chunk, PlayerImportResult result) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("usernames", chunk.stream().map(row -> row.username).toList());
+        params.put("emails", chunk.stream().map(row -> row.email).toList());
+        Set<String> existingUsernames = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT username FROM app_user WHERE username IN (:usernames)", params, String.class));
+        Set<String> existingEmails = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT email FROM app_user WHERE email IN (:emails)", params, String.class));
+
+        List<ImportRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingUsernames.contains(row.username)) {
+                result.addFailure(row.line, row.username, "Username already exists");
+            } else if (existingEmails.contains(row.email)) {
+                result.addFailure(row.line, row.username, "Email already exists");
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private void hashPasswords(List<ImportRow> rows) {
+        try {
+            hashingPool.submit(() -> rows.parallelStream()
+                    .forEach(row -> row.encodedPassword = passwordEncoder.encode(row.password)))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing imported passwords");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Hashing imported passwords failed", e.getCause());
+        }
+    }
+
+    // Player uses JOINED inheritance, so the app_user rows go in first and their ids are
+    // looked up by username before the players rows can be written
+    private void insertRows(List<ImportRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, rows.size(), (PreparedStatement ps, ImportRow row) -> {
+            ps.setString(1, row.username);
+            ps.setString(2, row.encodedPassword);
+            ps.setString(3, row.email);
+            ps.setString(4, row.role.name());
+        });
+
+        Map<String, Long> ids = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT id, username FROM app_user WHERE username IN (:usernames)",
+                Map.of("usernames", rows.stream().map(row -> row.username).toList()),
+                (RowCallbackHandler) rs -> ids.put(rs.getString("username"), rs.getLong("id")));
+
+        jdbcTemplate.batchUpdate(INSERT_PLAYER_SQL, rows, rows.size(), (PreparedStatement ps, ImportRow row) -> {
+            Player player = row.toPlayer();
+            ps.setLong(1, ids.get(row.username));
+            ps.setInt(2, player.getElo());
+            ps.setInt(3, player.getGender().ordinal());
+            ps.setBoolean(4, player.isReached2400());
+        });
+    }
+
+    // Splits one CSV line, honouring double quoted fields so passwords may contain commas
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    private static class ImportRow {
+        private final int line;
+        private final String username;
+        private final String password;
+        private final String email;
+        private final Gender gender;
+        private final Role role;
+        private volatile String encodedPassword;
+
+        ImportRow(int line, String username, String password, String email, Gender gender, Role role) {
+            this.line = line;
+            this.username = username;
+            this.password = password;
+            this.email = email;
+            this.gender = gender;
+            this.role = role;
+        }
+
+        Player toPlayer() {
+            return new Player(username, encodedPassword, email, role, gender);
+        }
+    }
+}
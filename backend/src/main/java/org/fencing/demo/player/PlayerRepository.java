@@ -3,10 +3,25 @@ package org.fencing.demo.player;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     List<Player> findByUsername(String username);
-}
+    List<Player> findByUsernameIn(List<String> usernames);
+
+    @Query("SELECT pr.player FROM PlayerRank pr WHERE pr.event.id = :eventId")
+    List<Player> findParticipantsByEventId(@Param("eventId") Long eventId);
 
+    // Copies each participant's tempElo from the event into elo in a single statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Player p SET " +
+           "p.elo = (SELECT pr.tempElo FROM PlayerRank pr WHERE pr.player = p AND pr.event.id = :eventId), " +
+           "p.reached2400 = CASE WHEN (SELECT pr.tempElo FROM PlayerRank pr WHERE pr.player = p AND pr.event.id = :eventId) >= 2400 " +
+           "THEN true ELSE p.reached2400 END " +
+           "WHERE p.id IN (SELECT pr.player.id FROM PlayerRank pr WHERE pr.event.id = :eventId)")
+    int applyEventElo(@Param("eventId") Long eventId);
+}
@@ -8,6 +8,9 @@ import org.fencing.demo.events.Event;
 import org.fencing.demo.events.EventRepository;
 import org.fencing.demo.match.Match;
 import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.security.CachingUserDetailsService;
+import org.fencing.demo.security.TokenVersionRegistry;
+import org.fencing.demo.security.auth.RefreshTokenService;
 import org.fencing.demo.tournament.Tournament;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,12 +20,19 @@ public class PlayerServiceImpl implements PlayerService {
     private PlayerRepository playerRepository;
     private EventRepository eventRepository;
     private MatchRepository matchRepository;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private CachingUserDetailsService userDetailsService;
+    private RefreshTokenService refreshTokenService;
 
     public PlayerServiceImpl(PlayerRepository playerRepository, EventRepository eventRepository,
-            MatchRepository matchRepository) {
+            MatchRepository matchRepository, TokenVersionRegistry tokenVersionRegistry,
+            CachingUserDetailsService userDetailsService, RefreshTokenService refreshTokenService) {
         this.playerRepository = playerRepository;
         this.eventRepository = eventRepository;
         this.matchRepository = matchRepository;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.userDetailsService = userDetailsService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Override
@@ -50,6 +60,12 @@ public class PlayerServiceImpl implements PlayerService {
         if (existingPlayer.isPresent()) {
             Player updatedPlayer = existingPlayer.get();
 
+            // Tokens and cached user details for the old credentials are no longer valid
+            tokenVersionRegistry.revoke(updatedPlayer);
+            userDetailsService.invalidate(updatedPlayer.getUsername());
+            userDetailsService.invalidate(player.getUsername());
+            refreshTokenService.revokeAll(updatedPlayer.getId());
+
             // Update the fields of the existing player with the new player data
             updatedPlayer.setUsername(player.getUsername());
             updatedPlayer.setEmail(player.getEmail());
@@ -70,6 +86,8 @@ public class PlayerServiceImpl implements PlayerService {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new PlayerNotFoundException(id));
         playerRepository.delete(player);
+        tokenVersionRegistry.forget(player.getUsername());
+        userDetailsService.invalidate(player.getUsername());
     }
 
     // Get all tournaments a player participated in
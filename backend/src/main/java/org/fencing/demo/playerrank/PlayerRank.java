@@ -11,8 +11,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,7 +28,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "player_rank", uniqueConstraints = @UniqueConstraint(columnNames = { "player_id", "event_id" }))
 public class PlayerRank implements Comparable<PlayerRank> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_rank_seq")
+    @SequenceGenerator(name = "player_rank_seq", sequenceName = "player_rank_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne
@@ -45,6 +48,10 @@ public class PlayerRank implements Comparable<PlayerRank> {
 
     private int tempElo;
 
+    // Concurrent score submissions touching the same fencer fail fast instead of losing an update
+    @Version
+    private long version;
+
     // Update tempElo after player is set
     public void initializeTempElo() {
         if (player != null) {
@@ -91,15 +98,32 @@ public class PlayerRank implements Comparable<PlayerRank> {
     }
 
     public void updateAfterMatch(int pointsWon, int pointsOpponent, PlayerRank opponent) {
+        int newTempElo = EloCalculator.changeTempElo(this, opponent, pointsWon > pointsOpponent);
+        applyMatch(pointsWon, pointsOpponent, newTempElo - tempElo);
+    }
+
+    // Applies a result whose Elo change is already known, e.g. when replaying the score log
+    public void applyMatch(int pointsWon, int pointsOpponent, int eloChange) {
         if (pointsWon > pointsOpponent) {
             winCount++;
             score += (pointsWon * 5); // 5 points for each win
-            tempElo = EloCalculator.changeTempElo(this, opponent, true);
         } else {
             lossCount++;
-            tempElo = EloCalculator.changeTempElo(this, opponent, false);
         }
         score -= pointsOpponent; // Deduct opponent's points
+        tempElo += eloChange;
+    }
+
+    // Undoes updateAfterMatch for a result that is being corrected or deleted
+    public void revertMatch(int pointsWon, int pointsOpponent, int eloChange) {
+        if (pointsWon > pointsOpponent) {
+            winCount--;
+            score -= (pointsWon * 5);
+        } else {
+            lossCount--;
+        }
+        score += pointsOpponent;
+        tempElo -= eloChange;
     }
 
 
@@ -1,12 +1,29 @@
 package org.fencing.demo.playerrank;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PlayerRankRepository extends JpaRepository<PlayerRank, Long> {
     List<PlayerRank> findByEventId(Long eventId);
     List<PlayerRank> findByPlayerId(Long playerId);
+    Optional<PlayerRank> findByEventIdAndPlayerId(Long eventId, Long playerId);
+    List<PlayerRank> findByEventIdAndPlayerIdIn(Long eventId, Collection<Long> playerIds);
+    long countByEventId(Long eventId);
+
+    // Same order as PlayerRank.compareTo
+    @Query("SELECT new org.fencing.demo.playerrank.PlayerStanding(p.id, p.username, pr.winCount, pr.lossCount, " +
+           "pr.score, pr.tempElo) FROM PlayerRank pr JOIN pr.player p WHERE pr.event.id = :eventId " +
+           "ORDER BY pr.winCount DESC, pr.lossCount ASC, pr.score DESC, p.id ASC")
+    List<PlayerStanding> findStandingsByEventId(@Param("eventId") Long eventId);
+
+    // Each row is {eventId, playerId}
+    @Query("SELECT pr.event.id, pr.player.id FROM PlayerRank pr WHERE pr.event.tournament.id = :tournamentId")
+    List<Object[]> findEventAndPlayerIdsByTournamentId(@Param("tournamentId") Long tournamentId);
 }
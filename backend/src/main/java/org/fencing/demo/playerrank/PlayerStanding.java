@@ -0,0 +1,21 @@
+package org.fencing.demo.playerrank;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlayerStanding {
+
+    private final Long playerId;
+
+    private final String username;
+
+    private final int winCount;
+
+    private final int lossCount;
+
+    private final int score;
+
+    private final int tempElo;
+}
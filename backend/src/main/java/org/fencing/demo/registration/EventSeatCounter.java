@@ -0,0 +1,122 @@
+package org.fencing.demo.registration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory count of taken seats per event, so admission doesn't need a COUNT(*) per request.
+ * Committed seats are seeded from the player_rank count on first use; seats taken by open
+ * transactions are tracked separately and only move to committed once their transaction
+ * commits. When an event looks full the committed count is re-read from the database, but
+ * only while no transaction is in flight for it and at most once per {@code reconcileInterval},
+ * so a burst of rejections costs a single query and can never drop an in-flight seat.
+ */
+@Component
+public class EventSeatCounter {
+
+    private final PlayerRankRepository playerRankRepository;
+    private final long reconcileIntervalNanos;
+    private final Map<Long, Seats> seats = new ConcurrentHashMap<>();
+
+    public EventSeatCounter(PlayerRankRepository playerRankRepository,
+            @Value("${event.registration.seat-reconcile-interval:5s}") Duration reconcileInterval) {
+        this.playerRankRepository = playerRankRepository;
+        this.reconcileIntervalNanos = reconcileInterval.toNanos();
+    }
+
+    public boolean tryAcquire(Long eventId, int capacity) {
+        Seats counter = seats(eventId);
+        synchronized (counter) {
+            if (counter.taken() >= capacity && counter.inFlight == 0 && counter.releasing == 0) {
+                // Looks full, double check against the database before turning players away
+                long now = System.nanoTime();
+                if (now - counter.reconciledAt >= reconcileIntervalNanos) {
+                    counter.committed = countSeats(eventId);
+                    counter.reconciledAt = now;
+                }
+            }
+            if (counter.taken() >= capacity) {
+                return false;
+            }
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                counter.committed++;
+                return true;
+            }
+            counter.inFlight++;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (counter) {
+                    counter.inFlight--;
+                    if (status == STATUS_COMMITTED) {
+                        counter.committed++;
+                    }
+                }
+            }
+        });
+        return true;
+    }
+
+    public void release(Long eventId) {
+        Seats counter = seats.get(eventId);
+        if (counter == null) {
+            return;
+        }
+        synchronized (counter) {
+            // Freed straight away so the same transaction can promote someone from the waitlist
+            counter.committed = Math.max(0, counter.committed - 1);
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                return;
+            }
+            counter.releasing++;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (counter) {
+                    counter.releasing--;
+                    if (status != STATUS_COMMITTED) {
+                        // The withdrawal never happened, take the seat back
+                        counter.committed++;
+                    }
+                }
+            }
+        });
+    }
+
+    public void forget(Long eventId) {
+        seats.remove(eventId);
+    }
+
+    private Seats seats(Long eventId) {
+        return seats.computeIfAbsent(eventId, id -> {
+            Seats counter = new Seats();
+            counter.committed = countSeats(id);
+            counter.reconciledAt = System.nanoTime();
+            return counter;
+        });
+    }
+
+    private int countSeats(Long eventId) {
+        return (int) playerRankRepository.countByEventId(eventId);
+    }
+
+    private static class Seats {
+        private int committed;
+        private int inFlight;
+        private int releasing;
+        private long reconciledAt;
+
+        int taken() {
+            return committed + inFlight;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.fencing.demo.registration;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class RegistrationController {
+
+    private final RegistrationQueue registrationQueue;
+
+    public RegistrationController(RegistrationQueue registrationQueue) {
+        this.registrationQueue = registrationQueue;
+    }
+
+    @GetMapping("/registrations/{ticketId}")
+    public RegistrationTicket getRegistration(@PathVariable String ticketId) {
+        RegistrationTicket ticket = registrationQueue.getTicket(ticketId);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // Regular users can only look at their own registrations
+        if (!authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))
+                && !authentication.getName().equals(ticket.getUsername())) {
+            throw new AccessDeniedException("Users can only view their own registrations");
+        }
+        return ticket;
+    }
+}
@@ -0,0 +1,186 @@
+package org.fencing.demo.registration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.fencing.demo.events.EventService;
+import org.fencing.demo.events.PlayerWaitlistedException;
+import org.fencing.demo.events.RegistrationBatchResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Accepts event registrations immediately and applies them in the background. Each event has
+ * its own lane with at most one worker draining it at a time, so registrations for a hot event
+ * never contend with each other; the worker takes up to {@code batchSize} tickets at once and
+ * registers them through {@link EventService#addPlayersToEvent} in a single transaction.
+ * Lanes are dropped once they run empty, so only events with pending registrations are kept.
+ */
+@Service
+public class RegistrationQueue {
+
+    private final EventService eventService;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int maxPendingPerEvent;
+    private final Duration ticketRetention;
+
+    private final Map<Long, EventLane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, RegistrationTicket> tickets = new ConcurrentHashMap<>();
+    private final AtomicLong submissions = new AtomicLong();
+
+    public RegistrationQueue(EventService eventService,
+            @Value("${event.registration.queue.workers:2}") int workerThreads,
+            @Value("${event.registration.queue.batch-size:50}") int batchSize,
+            @Value("${event.registration.queue.max-pending-per-event:5000}") int maxPendingPerEvent,
+            @Value("${event.registration.queue.ticket-retention:1h}") Duration ticketRetention) {
+        if (workerThreads <= 0 || batchSize <= 0 || maxPendingPerEvent <= 0) {
+            throw new IllegalArgumentException("Registration queue sizes must be positive");
+        }
+        this.eventService = eventService;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "registration-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = batchSize;
+        this.maxPendingPerEvent = maxPendingPerEvent;
+        this.ticketRetention = ticketRetention;
+    }
+
+    public RegistrationTicket submit(Long eventId, String username) {
+        if (submissions.incrementAndGet() % 256 == 0) {
+            purgeCompletedTickets();
+        }
+        if (!lanes.containsKey(eventId)) {
+            // Throws EventNotFoundException, so unknown ids never get a lane or a ticket
+            eventService.getEvent(eventId);
+        }
+        // Counting the ticket inside compute keeps a draining worker from dropping the lane under us
+        EventLane lane = lanes.compute(eventId, (id, existing) -> {
+            EventLane current = existing != null ? existing : new EventLane(id);
+            current.pending.incrementAndGet();
+            return current;
+        });
+        if (lane.pending.get() > maxPendingPerEvent) {
+            lane.pending.decrementAndGet();
+            throw new RegistrationQueueFullException(eventId);
+        }
+
+        RegistrationTicket ticket = new RegistrationTicket(eventId, username);
+        tickets.put(ticket.getId(), ticket);
+        lane.queue.add(ticket);
+        schedule(lane);
+        return ticket;
+    }
+
+    public RegistrationTicket getTicket(String ticketId) {
+        RegistrationTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new RegistrationTicketNotFoundException(ticketId);
+        }
+        return ticket;
+    }
+
+    private void schedule(EventLane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            workers.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(EventLane lane) {
+        try {
+            List<RegistrationTicket> batch = new ArrayList<>(batchSize);
+            RegistrationTicket ticket;
+            while (batch.size() < batchSize && (ticket = lane.queue.poll()) != null) {
+                batch.add(ticket);
+            }
+            if (!batch.isEmpty()) {
+                process(lane.eventId, batch);
+                lane.pending.addAndGet(-batch.size());
+            }
+        } finally {
+            lane.scheduled.set(false);
+            // Tickets added while this batch was running would otherwise wait for the next submit
+            if (!lane.queue.isEmpty()) {
+                schedule(lane);
+            } else if (lane.pending.get() == 0) {
+                lanes.computeIfPresent(lane.eventId,
+                        (id, current) -> current == lane && current.pending.get() == 0 ? null : current);
+            }
+        }
+    }
+
+    private void process(Long eventId, List<RegistrationTicket> batch) {
+        List<String> usernames = batch.stream().map(RegistrationTicket::getUsername).toList();
+        try {
+            RegistrationBatchResult result = eventService.addPlayersToEvent(eventId, usernames);
+            for (RegistrationTicket ticket : batch) {
+                String failure = result.getRejected().get(ticket.getUsername());
+                if (failure != null) {
+                    ticket.complete(RegistrationStatus.REJECTED, failure);
+                } else if (result.getWaitlisted().contains(ticket.getUsername())) {
+                    ticket.complete(RegistrationStatus.WAITLISTED, "Event is full, player is on the waitlist");
+                } else {
+                    ticket.complete(RegistrationStatus.REGISTERED, null);
+                }
+            }
+        } catch (DataIntegrityViolationException e) {
+            // A direct registration raced with the batch, fall back to one transaction per ticket
+            for (RegistrationTicket ticket : batch) {
+                processSingle(eventId, ticket);
+            }
+        } catch (RuntimeException e) {
+            for (RegistrationTicket ticket : batch) {
+                ticket.complete(RegistrationStatus.REJECTED, e.getMessage());
+            }
+        }
+    }
+
+    private void processSingle(Long eventId, RegistrationTicket ticket) {
+        try {
+            eventService.addPlayerToEvent(eventId, ticket.getUsername());
+            ticket.complete(RegistrationStatus.REGISTERED, null);
+        } catch (PlayerWaitlistedException e) {
+            ticket.complete(RegistrationStatus.WAITLISTED, e.getMessage());
+        } catch (RuntimeException e) {
+            ticket.complete(RegistrationStatus.REJECTED, e.getMessage());
+        }
+    }
+
+    private void purgeCompletedTickets() {
+        Instant cutoff = Instant.now().minus(ticketRetention);
+        tickets.values().removeIf(ticket -> ticket.isDone() && ticket.getCompletedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static class EventLane {
+        private final Long eventId;
+        private final Queue<RegistrationTicket> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        EventLane(Long eventId) {
+            this.eventId = eventId;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.fencing.demo.registration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class RegistrationQueueFullException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public RegistrationQueueFullException(Long eventId) {
+        super("Too many pending registrations for event " + eventId + ", please retry later");
+    }
+}
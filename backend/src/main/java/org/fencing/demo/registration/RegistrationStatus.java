@@ -0,0 +1,8 @@
+package org.fencing.demo.registration;
+
+public enum RegistrationStatus {
+    PENDING,
+    REGISTERED,
+    WAITLISTED,
+    REJECTED
+}
@@ -0,0 +1,39 @@
+package org.fencing.demo.registration;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.Getter;
+
+/**
+ * Handle for a queued registration. It starts as PENDING and is completed exactly once by the
+ * event's registration worker.
+ */
+@Getter
+public class RegistrationTicket {
+
+    private final String id;
+    private final Long eventId;
+    private final String username;
+    private final Instant createdAt;
+    private volatile RegistrationStatus status = RegistrationStatus.PENDING;
+    private volatile String message;
+    private volatile Instant completedAt;
+
+    public RegistrationTicket(Long eventId, String username) {
+        this.id = UUID.randomUUID().toString();
+        this.eventId = eventId;
+        this.username = username;
+        this.createdAt = Instant.now();
+    }
+
+    void complete(RegistrationStatus status, String message) {
+        this.message = message;
+        this.completedAt = Instant.now();
+        this.status = status;
+    }
+
+    boolean isDone() {
+        return status != RegistrationStatus.PENDING;
+    }
+}
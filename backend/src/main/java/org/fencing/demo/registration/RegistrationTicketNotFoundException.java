@@ -0,0 +1,13 @@
+package org.fencing.demo.registration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class RegistrationTicketNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public RegistrationTicketNotFoundException(String ticketId) {
+        super("Could not find registration ticket " + ticketId);
+    }
+}
@@ -0,0 +1,47 @@
+package org.fencing.demo.registration;
+
+import java.time.Instant;
+
+import org.fencing.demo.events.Event;
+import org.fencing.demo.player.Player;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A player waiting for a seat in a full event. Entries are promoted in id order, so the
+ * waitlist is first come, first served.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "waitlist_entry",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "event_id", "player_id" }),
+        indexes = @Index(name = "idx_waitlist_event", columnList = "event_id, id"))
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event event;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "player_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Player player;
+
+    private Instant createdAt;
+
+    public WaitlistEntry(Event event, Player player) {
+        this.event = event;
+        this.player = player;
+        this.createdAt = Instant.now();
+    }
+}
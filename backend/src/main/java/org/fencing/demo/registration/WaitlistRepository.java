@@ -0,0 +1,15 @@
+package org.fencing.demo.registration;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+    List<WaitlistEntry> findByEventIdOrderByIdAsc(Long eventId);
+    Optional<WaitlistEntry> findByEventIdAndPlayerUsername(Long eventId, String username);
+    boolean existsByEventIdAndPlayerId(Long eventId, Long playerId);
+    long countByEventIdAndIdLessThan(Long eventId, Long id);
+}
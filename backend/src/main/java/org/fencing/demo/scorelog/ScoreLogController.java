@@ -0,0 +1,53 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.fencing.demo.playerrank.PlayerRank;
+import org.fencing.demo.playerrank.PlayerStanding;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class ScoreLogController {
+
+    private final ScoreReplayService replayService;
+    private final ScoreLogEntryRepository entryRepository;
+    private final ScoreLogWriter writer;
+
+    public ScoreLogController(ScoreReplayService replayService, ScoreLogEntryRepository entryRepository,
+            ScoreLogWriter writer) {
+        this.replayService = replayService;
+        this.entryRepository = entryRepository;
+        this.writer = writer;
+    }
+
+    @GetMapping("/tournaments/{tournamentId}/events/{eventId}/score-log")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ScoreLogEntry> getScoreLog(@PathVariable Long eventId) {
+        return entryRepository.findByEventIdOrderByIdAsc(eventId);
+    }
+
+    @GetMapping("/tournaments/{tournamentId}/events/{eventId}/standings")
+    @ResponseStatus(HttpStatus.OK)
+    public List<PlayerStanding> getStandings(@PathVariable Long eventId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return replayService.getStandings(eventId, at);
+    }
+
+    @PostMapping("/tournaments/{tournamentId}/events/{eventId}/standings/rebuild")
+    @ResponseStatus(HttpStatus.OK)
+    public List<PlayerRank> rebuildPlayerRanks(@PathVariable Long eventId) {
+        // Rebuilding from a log that is still catching up would drop the newest results
+        if (writer.pendingCount() > 0) {
+            throw new IllegalStateException("Score log is still being written, please retry shortly");
+        }
+        return replayService.rebuildPlayerRanks(eventId);
+    }
+}
@@ -0,0 +1,73 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Instant;
+
+import org.fencing.demo.match.Match;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One immutable score mutation: the result a match was given, or its removal. The Elo changes are
+ * the ones that were actually applied at the time, so replaying the log reproduces the rankings
+ * exactly instead of recomputing Elo against today's player data.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "score_log", indexes = @Index(name = "idx_score_log_event", columnList = "event_id, id"))
+public class ScoreLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_log_seq")
+    @SequenceGenerator(name = "score_log_seq", sequenceName = "score_log_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private long eventId;
+
+    @Column(nullable = false)
+    private long matchId;
+
+    private Long player1Id;
+
+    private Long player2Id;
+
+    private int player1Score;
+
+    private int player2Score;
+
+    private Integer player1EloChange;
+
+    private Integer player2EloChange;
+
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private Instant recordedAt;
+
+    public static ScoreLogEntry result(Long eventId, Match match) {
+        return ScoreLogEntry.builder()
+                .eventId(eventId)
+                .matchId(match.getId())
+                .player1Id(match.getPlayer1().getId())
+                .player2Id(match.getPlayer2().getId())
+                .player1Score(match.getPlayer1Score())
+                .player2Score(match.getPlayer2Score())
+                .player1EloChange(match.getPlayer1EloChange())
+                .player2EloChange(match.getPlayer2EloChange())
+                .recordedAt(Instant.now())
+                .build();
+    }
+
+    public static ScoreLogEntry deletion(Long eventId, Long matchId) {
+        return ScoreLogEntry.builder()
+                .eventId(eventId)
+                .matchId(matchId)
+                .deleted(true)
+                .recordedAt(Instant.now())
+                .build();
+    }
+}
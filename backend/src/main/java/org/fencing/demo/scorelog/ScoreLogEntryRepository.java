@@ -0,0 +1,18 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoreLogEntryRepository extends JpaRepository<ScoreLogEntry, Long> {
+
+    List<ScoreLogEntry> findByEventIdOrderByIdAsc(long eventId);
+
+    List<ScoreLogEntry> findByEventIdAndIdGreaterThanOrderByIdAsc(long eventId, long afterId);
+
+    List<ScoreLogEntry> findByEventIdAndIdGreaterThanAndRecordedAtLessThanEqualOrderByIdAsc(long eventId,
+            long afterId, Instant at);
+}
@@ -0,0 +1,43 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The replayed state of an event's score log up to and including {@code lastEntryId}, stored as
+ * JSON so a replay only has to fold the entries written after it.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "score_log_snapshot",
+        indexes = @Index(name = "idx_score_log_snapshot_event", columnList = "event_id, last_entry_id"))
+public class ScoreLogSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private long eventId;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private long lastEntryId;
+
+    // recordedAt of the last entry folded in, used to pick a snapshot for a point-in-time replay
+    private Instant lastRecordedAt;
+
+    @Lob
+    @Column(nullable = false)
+    private String state;
+
+    public ScoreLogSnapshot(long eventId, long lastEntryId, Instant lastRecordedAt, String state) {
+        this.eventId = eventId;
+        this.lastEntryId = lastEntryId;
+        this.lastRecordedAt = lastRecordedAt;
+        this.state = state;
+    }
+}
@@ -0,0 +1,16 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoreLogSnapshotRepository extends JpaRepository<ScoreLogSnapshot, Long> {
+
+    Optional<ScoreLogSnapshot> findFirstByEventIdOrderByLastEntryIdDesc(long eventId);
+
+    Optional<ScoreLogSnapshot> findFirstByEventIdAndLastRecordedAtLessThanEqualOrderByLastEntryIdDesc(long eventId,
+            Instant at);
+}
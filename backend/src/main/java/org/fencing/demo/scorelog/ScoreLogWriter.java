@@ -0,0 +1,180 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Appends committed score mutations to the score log on a single background thread, so the
+ * scoring request doesn't wait for the audit insert. Entries are written in the order they were
+ * committed, up to {@code batchSize} per transaction, and every {@code snapshotEvery} entries of
+ * an event a replay snapshot is stored. If the queue of {@code queueCapacity} entries stays full
+ * for {@code enqueueTimeout}, or a batch still fails after {@code maxWriteAttempts}, the entries
+ * are dropped and counted rather than holding up scoring; a log with gaps is caught by
+ * {@link ScoreReplayService#rebuildPlayerRanks}, which refuses to run on it.
+ */
+@Component
+public class ScoreLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreLogWriter.class);
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+
+    private final ScoreLogEntryRepository entryRepository;
+    private final ScoreReplayService replayService;
+    private final int batchSize;
+    private final int snapshotEvery;
+    private final long retryBackoffMillis;
+    private final int maxWriteAttempts;
+    private final long enqueueTimeoutMillis;
+    private final Counter dropped;
+    private final BlockingQueue<ScoreLogEntry> queue;
+    private final ExecutorService worker;
+    private final AtomicInteger pending = new AtomicInteger();
+    // Only touched by the worker thread
+    private final Map<Long, Integer> entriesSinceSnapshot = new HashMap<>();
+
+    public ScoreLogWriter(ScoreLogEntryRepository entryRepository, ScoreReplayService replayService,
+            @Value("${score.log.queue-capacity:10000}") int queueCapacity,
+            @Value("${score.log.batch-size:100}") int batchSize,
+            @Value("${score.log.snapshot-every:200}") int snapshotEvery,
+            @Value("${score.log.retry-backoff:100ms}") Duration retryBackoff,
+            @Value("${score.log.max-write-attempts:10}") int maxWriteAttempts,
+            @Value("${score.log.enqueue-timeout:1s}") Duration enqueueTimeout,
+            MeterRegistry meterRegistry) {
+        if (queueCapacity <= 0 || batchSize <= 0 || snapshotEvery <= 0 || maxWriteAttempts <= 0) {
+            throw new IllegalArgumentException("Score log sizes must be positive");
+        }
+        this.entryRepository = entryRepository;
+        this.replayService = replayService;
+        this.batchSize = batchSize;
+        this.snapshotEvery = snapshotEvery;
+        this.retryBackoffMillis = Math.max(1, retryBackoff.toMillis());
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.enqueueTimeoutMillis = enqueueTimeout.toMillis();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "score-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dropped = meterRegistry.counter("score.log.dropped");
+        Gauge.builder("score.log.pending", pending, AtomicInteger::get).register(meterRegistry);
+        worker.execute(this::run);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoreLogEntry(ScoreLogEntry entry) {
+        pending.incrementAndGet();
+        try {
+            if (queue.offer(entry, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            log.error("Score log queue stayed full for {} ms, dropping entry for match {}",
+                    enqueueTimeoutMillis, entry.getMatchId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted before score log entry for match {} was queued", entry.getMatchId());
+        }
+        pending.decrementAndGet();
+        dropped.increment();
+    }
+
+    // Entries committed but not yet in the log, including the batch being written
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private void run() {
+        List<ScoreLogEntry> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            if (!write(batch)) {
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    // Retries up to maxWriteAttempts times; returns false only if interrupted while waiting to retry
+    private boolean write(List<ScoreLogEntry> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                entryRepository.saveAll(batch);
+                break;
+            } catch (RuntimeException e) {
+                if (attempt >= maxWriteAttempts) {
+                    log.error("Dropping {} score log entries after {} attempts", batch.size(), attempt, e);
+                    pending.addAndGet(-batch.size());
+                    dropped.increment(batch.size());
+                    return true;
+                }
+                log.warn("Could not write {} score log entries (attempt {})", batch.size(), attempt, e);
+                // The rolled back insert may have assigned ids; clear them so the retry inserts again
+                batch.forEach(entry -> entry.setId(null));
+                try {
+                    Thread.sleep(Math.min(retryBackoffMillis * attempt, MAX_RETRY_BACKOFF_MILLIS));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        pending.addAndGet(-batch.size());
+        snapshotIfDue(batch);
+        return true;
+    }
+
+    private void snapshotIfDue(List<ScoreLogEntry> batch) {
+        Map<Long, Integer> written = new HashMap<>();
+        batch.forEach(entry -> written.merge(entry.getEventId(), 1, Integer::sum));
+        written.forEach((eventId, count) -> {
+            if (entriesSinceSnapshot.merge(eventId, count, Integer::sum) >= snapshotEvery) {
+                entriesSinceSnapshot.remove(eventId);
+                try {
+                    replayService.takeSnapshot(eventId);
+                } catch (RuntimeException e) {
+                    // Replays just fold more entries until the next snapshot succeeds
+                    log.warn("Could not snapshot score log for event {}", eventId, e);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        List<ScoreLogEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            try {
+                entryRepository.saveAll(remaining);
+            } catch (RuntimeException e) {
+                log.error("Lost {} score log entries on shutdown", remaining.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.fencing.demo.events.EventNotFoundException;
+import org.fencing.demo.events.EventRepository;
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.playerrank.PlayerRank;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.fencing.demo.playerrank.PlayerStanding;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Rebuilds an event's standings from the score log, starting from the newest snapshot at or
+ * before the requested time so only the entries written after it have to be folded.
+ */
+@Service
+public class ScoreReplayService {
+
+    private final ScoreLogEntryRepository entryRepository;
+    private final ScoreLogSnapshotRepository snapshotRepository;
+    private final PlayerRankRepository playerRankRepository;
+    private final MatchRepository matchRepository;
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+
+    public ScoreReplayService(ScoreLogEntryRepository entryRepository, ScoreLogSnapshotRepository snapshotRepository,
+            PlayerRankRepository playerRankRepository, MatchRepository matchRepository,
+            EventRepository eventRepository, ObjectMapper objectMapper) {
+        this.entryRepository = entryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.playerRankRepository = playerRankRepository;
+        this.matchRepository = matchRepository;
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Replays the log of {@code eventId} up to {@code at}, or to the end of the log when
+     * {@code at} is null.
+     */
+    @Transactional(readOnly = true)
+    public ScoreReplayState replay(Long eventId, Instant at) {
+        Optional<ScoreLogSnapshot> snapshot = at == null
+                ? snapshotRepository.findFirstByEventIdOrderByLastEntryIdDesc(eventId)
+                : snapshotRepository.findFirstByEventIdAndLastRecordedAtLessThanEqualOrderByLastEntryIdDesc(eventId, at);
+        ScoreReplayState state = snapshot.map(this::readState).orElseGet(ScoreReplayState::new);
+        long afterId = snapshot.map(ScoreLogSnapshot::getLastEntryId).orElse(0L);
+
+        List<ScoreLogEntry> entries = at == null
+                ? entryRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(eventId, afterId)
+                : entryRepository.findByEventIdAndIdGreaterThanAndRecordedAtLessThanEqualOrderByIdAsc(eventId, afterId, at);
+        entries.forEach(state::apply);
+        return state;
+    }
+
+    // Standings of the fencers currently registered for the event, as they stood at the given time
+    @Transactional(readOnly = true)
+    public List<PlayerStanding> getStandings(Long eventId, Instant at) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException(eventId);
+        }
+        ScoreReplayState state = replay(eventId, at);
+        Map<Long, Integer> startingElo = startingTempElo(eventId);
+
+        List<PlayerStanding> standings = new ArrayList<>();
+        for (PlayerRank current : playerRankRepository.findByEventId(eventId)) {
+            Long playerId = current.getPlayer().getId();
+            PlayerRank replayed = state.getRanks().getOrDefault(playerId, new PlayerRank());
+            standings.add(new PlayerStanding(playerId, current.getPlayer().getUsername(), replayed.getWinCount(),
+                    replayed.getLossCount(), replayed.getScore(), startingElo.get(playerId) + replayed.getTempElo()));
+        }
+        // Same order as PlayerRank.compareTo
+        standings.sort(Comparator.comparingInt(PlayerStanding::getWinCount).reversed()
+                .thenComparingInt(PlayerStanding::getLossCount)
+                .thenComparing(Comparator.comparingInt(PlayerStanding::getScore).reversed())
+                .thenComparing(PlayerStanding::getPlayerId));
+        return standings;
+    }
+
+    /**
+     * Overwrites the event's PlayerRank counters with the replayed end of the log, e.g. after a
+     * dispute showed the stored counters had drifted. Refused while any scored match of the event
+     * has no result in the log, e.g. one scored before the log existed or whose entry was lost,
+     * since the rebuild would silently wipe it from the standings.
+     */
+    @Transactional
+    public List<PlayerRank> rebuildPlayerRanks(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException(eventId);
+        }
+        ScoreReplayState state = replay(eventId, null);
+        List<Long> unlogged = matchRepository.findScoredMatchIdsByEventId(eventId).stream()
+                .filter(matchId -> !state.getResults().containsKey(matchId))
+                .toList();
+        if (!unlogged.isEmpty()) {
+            throw new IllegalStateException("Cannot rebuild rankings of event " + eventId
+                    + " from the score log, it has no result for matches " + unlogged);
+        }
+        Map<Long, Integer> startingElo = startingTempElo(eventId);
+
+        List<PlayerRank> ranks = playerRankRepository.findByEventId(eventId);
+        for (PlayerRank rank : ranks) {
+            Long playerId = rank.getPlayer().getId();
+            PlayerRank replayed = state.getRanks().getOrDefault(playerId, new PlayerRank());
+            rank.setWinCount(replayed.getWinCount());
+            rank.setLossCount(replayed.getLossCount());
+            rank.setScore(replayed.getScore());
+            rank.setTempElo(startingElo.get(playerId) + replayed.getTempElo());
+        }
+        return playerRankRepository.saveAll(ranks);
+    }
+
+    @Transactional
+    public void takeSnapshot(Long eventId) {
+        ScoreReplayState state = replay(eventId, null);
+        if (state.getLastEntryId() == 0) {
+            return;
+        }
+        try {
+            snapshotRepository.save(new ScoreLogSnapshot(eventId, state.getLastEntryId(), state.getLastRecordedAt(),
+                    objectMapper.writeValueAsString(state)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize score log snapshot for event " + eventId, e);
+        }
+    }
+
+    // tempElo each fencer entered the event with: the current tempElo minus what the applied results added
+    private Map<Long, Integer> startingTempElo(Long eventId) {
+        Map<Long, Integer> startingElo = new HashMap<>();
+        for (PlayerRank rank : playerRankRepository.findByEventId(eventId)) {
+            startingElo.put(rank.getPlayer().getId(), rank.getTempElo());
+        }
+        for (Object[] row : matchRepository.findAppliedEloChangesByEventId(eventId)) {
+            startingElo.computeIfPresent((Long) row[0], (id, elo) -> elo - (Integer) row[1]);
+            startingElo.computeIfPresent((Long) row[2], (id, elo) -> elo - (Integer) row[3]);
+        }
+        return startingElo;
+    }
+
+    private ScoreReplayState readState(ScoreLogSnapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.getState(), ScoreReplayState.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read score log snapshot " + snapshot.getId(), e);
+        }
+    }
+}
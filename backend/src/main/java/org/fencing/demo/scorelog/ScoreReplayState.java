@@ -0,0 +1,51 @@
+package org.fencing.demo.scorelog;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.fencing.demo.playerrank.PlayerRank;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Standings rebuilt from the score log. Ranks are keyed by player id and only carry the counters;
+ * their tempElo is the net change from the score log, to be added to the fencer's starting tempElo.
+ */
+@Data
+@NoArgsConstructor
+public class ScoreReplayState {
+
+    private Map<Long, PlayerRank> ranks = new HashMap<>();
+
+    // The result currently applied for each match, so a later correction can be taken back out
+    private Map<Long, ScoreLogEntry> results = new HashMap<>();
+
+    private long lastEntryId;
+
+    private Instant lastRecordedAt;
+
+    public void apply(ScoreLogEntry entry) {
+        ScoreLogEntry previous = results.remove(entry.getMatchId());
+        if (previous != null) {
+            rank(previous.getPlayer1Id()).revertMatch(previous.getPlayer1Score(), previous.getPlayer2Score(),
+                    previous.getPlayer1EloChange());
+            rank(previous.getPlayer2Id()).revertMatch(previous.getPlayer2Score(), previous.getPlayer1Score(),
+                    previous.getPlayer2EloChange());
+        }
+        if (!entry.isDeleted()) {
+            rank(entry.getPlayer1Id()).applyMatch(entry.getPlayer1Score(), entry.getPlayer2Score(),
+                    entry.getPlayer1EloChange());
+            rank(entry.getPlayer2Id()).applyMatch(entry.getPlayer2Score(), entry.getPlayer1Score(),
+                    entry.getPlayer2EloChange());
+            results.put(entry.getMatchId(), entry);
+        }
+        lastEntryId = entry.getId();
+        lastRecordedAt = entry.getRecordedAt();
+    }
+
+    private PlayerRank rank(Long playerId) {
+        return ranks.computeIfAbsent(playerId, id -> new PlayerRank());
+    }
+}
@@ -37,7 +37,8 @@ public class AdminInitializer implements ApplicationRunner {
             // Generate and print the JWT token
             String token = jwtService.generateToken(adminUser);
             System.out.println("Admin JWT Token: " + token);
-            System.out.println("This token will expire in 24 hours. Use it to authenticate as admin.");
+            System.out.println("This token will expire in " + jwtService.getAccessTokenTtl().toMinutes()
+                    + " minutes. Log in or use /api/v1/auth/refresh to get a new one.");
         }
     }
 }
@@ -1,17 +1,19 @@
 package org.fencing.demo.security;
 
+import java.time.Duration;
+
 import org.fencing.demo.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -19,11 +21,17 @@ import lombok.RequiredArgsConstructor;
 public class ApplicationConfig {
     
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.userdetails.cache.max-entries:10000}")
+    private int userCacheMaxEntries;
+
+    @Value("${security.userdetails.cache.ttl:5m}")
+    private Duration userCacheTtl;
 
     @Bean
-    public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    public CachingUserDetailsService userDetailsService() {
+        return new CachingUserDetailsService(userRepository, userCacheMaxEntries, userCacheTtl, meterRegistry);
     }
 
     @Bean
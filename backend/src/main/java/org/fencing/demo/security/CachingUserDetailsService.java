@@ -0,0 +1,117 @@
+package org.fencing.demo.security;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.fencing.demo.user.UserRepository;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps recently loaded users in memory so repeat authentications don't hit the database.
+ * Entries live for at most {@code ttl} and the cache holds at most {@code maxEntries} users.
+ * Anything that changes a username, password or role must call {@link #invalidate(String)}
+ * so stale credentials are never served. Inside a transaction the entry is dropped again after
+ * commit, since a concurrent load could otherwise cache the old row until the TTL runs out.
+ */
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final UserRepository userRepository;
+    private final Map<String, CachedUser> cache = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingUserDetailsService(UserRepository userRepository, int maxEntries, Duration ttl,
+            MeterRegistry meterRegistry) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("User cache size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("User cache TTL must be positive");
+        }
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("security.userdetails.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("security.userdetails.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("security.userdetails.cache.size", cache, Map::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long now = System.nanoTime();
+        CachedUser cached = cache.get(username);
+        if (cached != null && !cached.isExpired(now)) {
+            hits.increment();
+            return cached.user();
+        }
+        misses.increment();
+
+        UserDetails user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        if (cache.size() >= maxEntries) {
+            evict(now);
+        }
+        cache.put(username, new CachedUser(user, now + ttlNanos));
+        return user;
+    }
+
+    public void invalidate(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(username);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public double hitCount() {
+        return hits.count();
+    }
+
+    public double missCount() {
+        return misses.count();
+    }
+
+    // Expired users go first, then arbitrary entries until there is room again
+    private void evict(long now) {
+        cache.values().removeIf(cached -> cached.isExpired(now));
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedUser(UserDetails user, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
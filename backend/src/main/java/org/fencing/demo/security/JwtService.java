@@ -1,16 +1,20 @@
 package org.fencing.demo.security;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.fencing.demo.user.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -23,6 +27,32 @@ public class JwtService {
         ? System.getenv("JWT_SECRET_KEY") 
         : "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
 
+    // The key and parser never change, so build them once instead of on every call
+    private static final Key SIGN_IN_KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(SIGN_IN_KEY)
+            .build();
+
+    private static final String ROLES_CLAIM = "roles";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final VerifiedTokenCache tokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final Duration accessTokenTtl;
+
+    public JwtService(VerifiedTokenCache tokenCache, TokenVersionRegistry tokenVersionRegistry,
+            @Value("${security.jwt.access-token.ttl:15m}") Duration accessTokenTtl) {
+        this.tokenCache = tokenCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.accessTokenTtl = accessTokenTtl;
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -34,11 +64,15 @@ public class JwtService {
 
     public String generateToken(UserDetails userDetails){
         Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", userDetails.getAuthorities().stream()
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .map(SimpleGrantedAuthority::new)
                 .map(authority -> authority.getAuthority())
                 .collect(Collectors.toList()));
+        if (userDetails instanceof User user && user.getId() != null) {
+            claims.put(USER_ID_CLAIM, user.getId());
+        }
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersionRegistry.currentVersion(userDetails.getUsername()));
         return generateToken(claims, userDetails);
     }
 
@@ -51,36 +85,54 @@ public class JwtService {
             .setClaims(extraClaims)
             .setSubject(userDetails.getUsername())
             .setIssuedAt(new Date(System.currentTimeMillis()))
-            .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24))
+            .setExpiration(new Date(System.currentTimeMillis() + accessTokenTtl.toMillis()))
             .signWith(getSignInKey(), SignatureAlgorithm.HS256)
             .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername())) && !isTokenExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Builds the principal straight from the verified claims, without a user lookup.
+     * Returns null if the token has expired or was revoked by a credential change.
+     */
+    public JwtPrincipal extractPrincipal(String token) {
+        final Claims claims = extractAllClaims(token);
+        String username = claims.getSubject();
+        if (username == null || isTokenExpired(claims)
+                || !tokenVersionRegistry.isCurrent(username, claims.get(TOKEN_VERSION_CLAIM, Integer.class))) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles != null) {
+            roles.forEach(role -> authorities.add(new SimpleGrantedAuthority(role.toString())));
+        }
+        return new JwtPrincipal(claims.get(USER_ID_CLAIM, Long.class), username, authorities);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
+    // Signature verification only happens the first time a token is seen,
+    // later lookups are served from the cache until the token expires
     private Claims extractAllClaims(String token) {
-        return Jwts
-            .parserBuilder()
-            .setSigningKey(getSignInKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+        Claims claims = tokenCache.get(token);
+        if (claims == null) {
+            claims = parser
+                .parseClaimsJws(token)
+                .getBody();
+            tokenCache.put(token, claims);
+        }
+        return claims;
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return SIGN_IN_KEY;
     }
 
 }
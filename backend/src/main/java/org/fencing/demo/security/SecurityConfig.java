@@ -5,12 +5,14 @@ import java.util.Arrays;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -33,7 +35,7 @@ public class SecurityConfig {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(Arrays.asList("http://localhost:3000")); // Set frontend origin
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        config.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Idempotency-Key"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -57,6 +59,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/tournaments/{tournamentId}/events").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/tournaments/{tournamentId}/events/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/tournaments/{tournamentId}/events/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/tournaments/{tournamentId}/elo/**").hasRole("ADMIN")
                         // Then more general tournament endpoints
                         .requestMatchers(HttpMethod.GET, "/tournaments/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/tournaments/**").hasRole("ADMIN")
@@ -82,6 +85,9 @@ public class SecurityConfig {
                 // ensure that the application won’t create any session in our stateless REST
                 // APIs
                 .sessionManagement(configurer -> configurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // Missing, expired or revoked tokens get a 401 so clients know to refresh; a valid token
+                // without the required role still gets a 403
+                .exceptionHandling(handling -> handling.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .httpBasic(Customizer.withDefaults())
                 .formLogin(form -> form.disable())
                 .headers(header -> header.disable()) // disable the security headers, as we do not return HTML in our
@@ -0,0 +1,95 @@
+package org.fencing.demo.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.fencing.demo.user.User;
+import org.fencing.demo.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tracks the version number embedded in every issued token. The version lives in the
+ * user's {@code token_version} column, so revocations survive restarts and are shared by
+ * every instance. Lookups are cached for {@code ttl} to keep the stateless filter off the
+ * database; other instances pick up a revocation once their cached entry expires.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final Map<String, CachedVersion> versions = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+            @Value("${security.jwt.token-version.ttl:30s}") Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Token version TTL must be positive");
+        }
+        this.userRepository = userRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public int currentVersion(String username) {
+        Integer version = lookup(username);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Bumps the user's token version. The change is written with the rest of the entity, and
+     * the cached version is dropped once the surrounding transaction commits.
+     */
+    public void revoke(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        forget(user.getUsername());
+    }
+
+    public void forget(String username) {
+        if (username == null) {
+            return;
+        }
+        versions.remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // A concurrent lookup may have cached the old version before we committed
+                    versions.remove(username);
+                }
+            });
+        }
+    }
+
+    public boolean isCurrent(String username, Integer tokenVersion) {
+        Integer version = lookup(username);
+        // Tokens of deleted users are never current
+        return version != null && version == (tokenVersion == null ? 0 : tokenVersion);
+    }
+
+    private Integer lookup(String username) {
+        if (username == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        CachedVersion cached = versions.get(username);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.version();
+        }
+        Integer version = userRepository.findTokenVersionByUsername(username).orElse(null);
+        if (version == null) {
+            versions.remove(username);
+            return null;
+        }
+        versions.put(username, new CachedVersion(version, now + ttlNanos));
+        return version;
+    }
+
+    private record CachedVersion(int version, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
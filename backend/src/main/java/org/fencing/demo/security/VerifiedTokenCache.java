@@ -0,0 +1,83 @@
+package org.fencing.demo.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Holds the claims of tokens whose signature has already been verified, so a
+ * token is only parsed once for as long as it stays valid.
+ * Entries are dropped once the token expires, and the cache never grows past
+ * {@code maxEntries}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, CachedClaims> cache = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public VerifiedTokenCache(@Value("${security.jwt.cache.max-entries:10000}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Token cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    public Claims get(String token) {
+        CachedClaims cached = cache.get(token);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            cache.remove(token, cached);
+            return null;
+        }
+        return cached.claims();
+    }
+
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            // Tokens without an expiry are never issued by JwtService, so don't keep them around
+            return;
+        }
+        long expiresAt = claims.getExpiration().getTime();
+        long now = System.currentTimeMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+        if (cache.size() >= maxEntries) {
+            evict(now);
+        }
+        cache.put(token, new CachedClaims(claims, expiresAt));
+    }
+
+    public void invalidate(String token) {
+        cache.remove(token);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // Drop expired tokens first; if that doesn't free enough room, drop arbitrary entries
+    // since they can always be re-verified from the token itself.
+    private void evict(long now) {
+        cache.values().removeIf(cached -> cached.isExpired(now));
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
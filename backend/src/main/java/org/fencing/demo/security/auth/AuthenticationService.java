@@ -4,6 +4,7 @@ import org.fencing.demo.events.Gender;
 import org.fencing.demo.player.Player;
 import org.fencing.demo.player.PlayerRepository;
 import org.fencing.demo.security.JwtService;
+import org.fencing.demo.security.PasswordHashingExecutor;
 import org.fencing.demo.user.Role;
 import org.fencing.demo.user.User;
 import org.fencing.demo.user.UserRepository;
@@ -12,6 +13,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +26,8 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthenticationResponse register(RegisterRequest request) {
         Role userRole = Role.valueOf(request.getRole().toUpperCase());
@@ -36,33 +40,45 @@ public class AuthenticationService {
         //     .build();
         // userRepository.save(user);
         
+        String encodedPassword = passwordHashingExecutor.execute("encode",
+            () -> passwordEncoder.encode(request.getPassword()));
         Player player = new Player(
             request.getUsername(),
-            passwordEncoder.encode(request.getPassword()),
+            encodedPassword,
             request.getEmail().trim(),
             userRole,
             gender
         );
         playerRepository.save(player);
 
-        String jwtToken = jwtService.generateToken(player);
-        return AuthenticationResponse.builder()
-                .token(jwtToken)
-                .build();
+        return buildResponse(player);
     }
 
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
-        authenticationManager.authenticate(
+        // The password check is BCrypt bound, so it runs on the hashing pool as well
+        passwordHashingExecutor.execute("matches", () -> authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(
                 request.getUsername(),
                 request.getPassword()
             )
-        );
+        ));
         User user = userRepository.findByUsername(request.getUsername())
             .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        String jwtToken = jwtService.generateToken(user);
+        return buildResponse(user);
+    }
+
+    // Rotates the refresh token without going through the password check again. Consuming the old
+    // token and issuing the new one commit together, so a failed issue leaves the old token usable
+    @Transactional
+    public AuthenticationResponse refresh(RefreshRequest request) {
+        User user = refreshTokenService.consume(request.getRefreshToken());
+        return buildResponse(user);
+    }
+
+    private AuthenticationResponse buildResponse(User user) {
         return AuthenticationResponse.builder()
-                .token(jwtToken)
+                .token(jwtService.generateToken(user))
+                .refreshToken(refreshTokenService.issue(user))
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package org.fencing.demo.security.auth;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class InvalidRefreshTokenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRefreshTokenException() {
+        super("Refresh token is invalid or expired");
+    }
+}
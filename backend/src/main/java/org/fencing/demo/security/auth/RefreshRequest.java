@@ -0,0 +1,14 @@
+package org.fencing.demo.security.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshRequest {
+
+    private String refreshToken;
+
+}
@@ -0,0 +1,77 @@
+package org.fencing.demo.security.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.fencing.demo.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Issues opaque refresh tokens and rotates them. Each token can be used exactly once;
+ * using it deletes the stored hash and a fresh token has to be issued in its place.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshTokenTtl;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.jwt.refresh-token.ttl:14d}") Duration refreshTokenTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    @Transactional
+    public String issue(User user) {
+        Instant now = Instant.now();
+        refreshTokenRepository.deleteExpiredForUser(user.getId(), now);
+
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(hash(token), user, now.plus(refreshTokenTtl)));
+        return token;
+    }
+
+    /**
+     * Validates and deletes the given refresh token, returning the user it was issued to.
+     */
+    @Transactional
+    public User consume(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidRefreshTokenException();
+        }
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(InvalidRefreshTokenException::new);
+        if (refreshToken.isExpired(Instant.now())
+                || refreshTokenRepository.deleteByIdAndCount(refreshToken.getId()) == 0) {
+            throw new InvalidRefreshTokenException();
+        }
+        return refreshToken.getUser();
+    }
+
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteAllForUser(userId);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
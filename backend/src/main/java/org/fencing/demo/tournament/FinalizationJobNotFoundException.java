@@ -0,0 +1,13 @@
+package org.fencing.demo.tournament;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class FinalizationJobNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public FinalizationJobNotFoundException(String jobId) {
+        super("Could not find finalization job " + jobId);
+    }
+}
@@ -0,0 +1,7 @@
+package org.fencing.demo.tournament;
+
+public enum FinalizationStatus {
+    RUNNING,
+    COMPLETED,
+    COMPLETED_WITH_ERRORS
+}
@@ -24,9 +24,12 @@ import jakarta.validation.Valid;
 public class TournamentController {
 
     private TournamentService tournamentService;
+    private TournamentFinalizationService finalizationService;
 
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService,
+            TournamentFinalizationService finalizationService) {
         this.tournamentService = tournamentService;
+        this.finalizationService = finalizationService;
     }
 
     @GetMapping(path = "/tournaments")
@@ -59,6 +62,17 @@ public class TournamentController {
         tournamentService.deleteTournament(id);
     }
 
+    @PostMapping(path = "/tournaments/{id}/elo")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TournamentFinalizationJob finalizeTournament(@PathVariable("id") Long id) {
+        return finalizationService.start(id);
+    }
+
+    @GetMapping(path = "/tournaments/{id}/elo/jobs/{jobId}")
+    @ResponseStatus(HttpStatus.OK)
+    public TournamentFinalizationJob getFinalizationJob(@PathVariable("id") Long id, @PathVariable String jobId) {
+        return finalizationService.getJob(id, jobId);
+    }
 
     @GetMapping("/tournaments/search")
     public List<Tournament> getTournamentsDuringPeriod(
@@ -0,0 +1,56 @@
+package org.fencing.demo.tournament;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+
+/**
+ * Progress of finalizing every event of a tournament. Events that finished are listed in
+ * {@code finalizedEvents}; events that could not be finalized are in {@code failedEvents} with
+ * the reason.
+ */
+@Getter
+public class TournamentFinalizationJob {
+
+    private final String id;
+    private final Long tournamentId;
+    private final int totalEvents;
+    private final Instant startedAt;
+    private final Set<Long> finalizedEvents = ConcurrentHashMap.newKeySet();
+    private final Map<Long, String> failedEvents = new ConcurrentHashMap<>();
+    private volatile Instant completedAt;
+
+    public TournamentFinalizationJob(Long tournamentId, int totalEvents) {
+        this.id = UUID.randomUUID().toString();
+        this.tournamentId = tournamentId;
+        this.totalEvents = totalEvents;
+        this.startedAt = Instant.now();
+    }
+
+    public int getProcessedEvents() {
+        return finalizedEvents.size() + failedEvents.size();
+    }
+
+    public FinalizationStatus getStatus() {
+        if (completedAt == null) {
+            return FinalizationStatus.RUNNING;
+        }
+        return failedEvents.isEmpty() ? FinalizationStatus.COMPLETED : FinalizationStatus.COMPLETED_WITH_ERRORS;
+    }
+
+    void eventFinalized(Long eventId) {
+        finalizedEvents.add(eventId);
+    }
+
+    void eventFailed(Long eventId, String reason) {
+        failedEvents.put(eventId, reason);
+    }
+
+    void complete() {
+        this.completedAt = Instant.now();
+    }
+}
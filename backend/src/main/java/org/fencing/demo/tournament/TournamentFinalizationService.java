@@ -0,0 +1,172 @@
+package org.fencing.demo.tournament;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fencing.demo.events.EventRepository;
+import org.fencing.demo.events.EventService;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Finalizes Elo for every event of a tournament in the background. Events that share a player
+ * are put in the same group and finalized one after another in start order, so a player who
+ * fenced in several events always ends up with the rating from their latest event. Groups with
+ * no players in common run in parallel on a fixed-size pool. Finished jobs can be polled for
+ * {@code jobRetention} after they complete and are dropped after that.
+ */
+@Service
+public class TournamentFinalizationService {
+
+    private final TournamentRepository tournamentRepository;
+    private final EventRepository eventRepository;
+    private final PlayerRankRepository playerRankRepository;
+    private final EventService eventService;
+    private final ExecutorService workers;
+    private final Duration jobRetention;
+
+    private final Map<String, TournamentFinalizationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, TournamentFinalizationJob> runningJobs = new ConcurrentHashMap<>();
+
+    public TournamentFinalizationService(TournamentRepository tournamentRepository, EventRepository eventRepository,
+            PlayerRankRepository playerRankRepository, EventService eventService,
+            @Value("${tournament.finalize.workers:4}") int workerThreads,
+            @Value("${tournament.finalize.job-retention:1h}") Duration jobRetention) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("Finalization workers must be positive");
+        }
+        this.tournamentRepository = tournamentRepository;
+        this.eventRepository = eventRepository;
+        this.playerRankRepository = playerRankRepository;
+        this.eventService = eventService;
+        this.jobRetention = jobRetention;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "tournament-finalize-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts finalizing the tournament and returns straight away. If a job for the tournament is
+     * still running, that job is returned instead of starting a second one.
+     */
+    public TournamentFinalizationJob start(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException(tournamentId);
+        }
+        purgeCompletedJobs();
+        TournamentFinalizationJob running = runningJobs.get(tournamentId);
+        if (running != null) {
+            return running;
+        }
+
+        List<List<Long>> groups = groupEventsBySharedPlayers(tournamentId);
+        int totalEvents = groups.stream().mapToInt(List::size).sum();
+        TournamentFinalizationJob job = new TournamentFinalizationJob(tournamentId, totalEvents);
+        running = runningJobs.putIfAbsent(tournamentId, job);
+        if (running != null) {
+            return running;
+        }
+        jobs.put(job.getId(), job);
+
+        if (groups.isEmpty()) {
+            finish(job);
+            return job;
+        }
+        AtomicInteger remainingGroups = new AtomicInteger(groups.size());
+        for (List<Long> group : groups) {
+            workers.execute(() -> {
+                try {
+                    group.forEach(eventId -> finalizeEvent(job, eventId));
+                } finally {
+                    if (remainingGroups.decrementAndGet() == 0) {
+                        finish(job);
+                    }
+                }
+            });
+        }
+        return job;
+    }
+
+    public TournamentFinalizationJob getJob(Long tournamentId, String jobId) {
+        TournamentFinalizationJob job = jobs.get(jobId);
+        if (job == null || !job.getTournamentId().equals(tournamentId)) {
+            throw new FinalizationJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    private void finalizeEvent(TournamentFinalizationJob job, Long eventId) {
+        try {
+            eventService.updatePlayerEloAfterEvent(eventId);
+            job.eventFinalized(eventId);
+        } catch (RuntimeException e) {
+            job.eventFailed(eventId, e.getMessage());
+        }
+    }
+
+    private void finish(TournamentFinalizationJob job) {
+        job.complete();
+        runningJobs.remove(job.getTournamentId(), job);
+    }
+
+    private void purgeCompletedJobs() {
+        Instant cutoff = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.getCompletedAt() != null && !job.getCompletedAt().isAfter(cutoff));
+    }
+
+    // Union-find over events that have a player in common; each group keeps start order
+    private List<List<Long>> groupEventsBySharedPlayers(Long tournamentId) {
+        List<Long> eventIds = eventRepository.findIdsByTournamentIdInStartOrder(tournamentId);
+        Map<Long, Long> parent = new HashMap<>();
+        eventIds.forEach(eventId -> parent.put(eventId, eventId));
+
+        Map<Long, Long> firstEventOfPlayer = new HashMap<>();
+        for (Object[] row : playerRankRepository.findEventAndPlayerIdsByTournamentId(tournamentId)) {
+            Long eventId = (Long) row[0];
+            Long previousEvent = firstEventOfPlayer.putIfAbsent((Long) row[1], eventId);
+            if (previousEvent != null) {
+                parent.put(find(parent, eventId), find(parent, previousEvent));
+            }
+        }
+
+        Map<Long, List<Long>> groups = new LinkedHashMap<>();
+        for (Long eventId : eventIds) {
+            groups.computeIfAbsent(find(parent, eventId), root -> new ArrayList<>()).add(eventId);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static Long find(Map<Long, Long> parent, Long eventId) {
+        Long root = eventId;
+        while (!parent.get(root).equals(root)) {
+            root = parent.get(root);
+        }
+        // Path compression keeps later lookups short
+        while (!eventId.equals(root)) {
+            Long next = parent.get(eventId);
+            parent.put(eventId, root);
+            eventId = next;
+        }
+        return root;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
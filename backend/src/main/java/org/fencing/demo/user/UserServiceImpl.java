@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.apache.hc.client5.http.auth.InvalidCredentialsException;
+import org.fencing.demo.security.CachingUserDetailsService;
+import org.fencing.demo.security.TokenVersionRegistry;
+import org.fencing.demo.security.auth.RefreshTokenService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -17,6 +20,15 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private CachingUserDetailsService userDetailsService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     public UserServiceImpl(UserRepository userRepository) {
         this.userRepository = userRepository;
     }   
@@ -65,6 +77,12 @@ public class UserServiceImpl implements UserService {
                 throw new UserExistException("Email already exists. Please choose a different email.");
             }
 
+            // Tokens and cached user details for the old credentials are no longer valid
+            tokenVersionRegistry.revoke(updatedUser);
+            userDetailsService.invalidate(updatedUser.getUsername());
+            userDetailsService.invalidate(user.getUsername());
+            refreshTokenService.revokeAll(updatedUser.getId());
+
             // Update the fields of the existing user with the new user data
             updatedUser.setUsername(user.getUsername());
             updatedUser.setPassword(passwordEncoder.encode(user.getPassword()));
@@ -83,6 +101,8 @@ public class UserServiceImpl implements UserService {
         Optional<User> user = userRepository.findById(id);
         if (user.isPresent()) {
             userRepository.delete(user.get());
+            tokenVersionRegistry.forget(user.get().getUsername());
+            userDetailsService.invalidate(user.get().getUsername());
         } else {
             throw new UserNotFoundException(id);
         }
@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.function.Supplier;
+
 import org.fencing.demo.events.*;
 import org.fencing.demo.player.Player;
 import org.fencing.demo.player.PlayerRepository;
@@ -24,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -48,6 +52,12 @@ public class AuthenticationServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     private RegisterRequest registerRequest;
     private AuthenticationRequest authenticationRequest;
     private Player player;
@@ -59,6 +69,8 @@ public class AuthenticationServiceTest {
         authenticationRequest = new AuthenticationRequest("testUser", "password");
         player = new Player("testUser", "encodedPassword", "test@example.com", Role.USER, Gender.MALE);
         user = new User("testUser", "encodedPassword", "test@example.com", Role.USER);
+        lenient().when(passwordHashingExecutor.execute(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Test
@@ -73,6 +85,7 @@ public class AuthenticationServiceTest {
         // Assert
         verify(playerRepository).save(any(Player.class));
         assertEquals("jwtToken", response.getToken());
+        verify(refreshTokenService).issue(any(Player.class));
     }
 
     @Test
@@ -99,4 +112,46 @@ public class AuthenticationServiceTest {
             authenticationService.authenticate(authenticationRequest);
         });
     }
+
+    @Test
+    public void testAuthenticateOverloaded() {
+        // Arrange
+        doThrow(new PasswordHashingOverloadedException(2))
+                .when(passwordHashingExecutor).execute(anyString(), any());
+
+        // Act & Assert
+        assertThrows(PasswordHashingOverloadedException.class, () -> {
+            authenticationService.authenticate(authenticationRequest);
+        });
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    public void testRefresh() {
+        // Arrange
+        when(refreshTokenService.consume("oldRefreshToken")).thenReturn(user);
+        when(refreshTokenService.issue(user)).thenReturn("newRefreshToken");
+        when(jwtService.generateToken(user)).thenReturn("jwtToken");
+
+        // Act
+        AuthenticationResponse response = authenticationService.refresh(new RefreshRequest("oldRefreshToken"));
+
+        // Assert
+        assertEquals("jwtToken", response.getToken());
+        assertEquals("newRefreshToken", response.getRefreshToken());
+        verify(authenticationManager, never()).authenticate(any());
+        verify(passwordHashingExecutor, never()).execute(anyString(), any());
+    }
+
+    @Test
+    public void testRefreshInvalidToken() {
+        // Arrange
+        when(refreshTokenService.consume("usedRefreshToken")).thenThrow(new InvalidRefreshTokenException());
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> {
+            authenticationService.refresh(new RefreshRequest("usedRefreshToken"));
+        });
+        verify(jwtService, never()).generateToken(any(UserDetails.class));
+    }
 }
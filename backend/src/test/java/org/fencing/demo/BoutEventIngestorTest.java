@@ -0,0 +1,151 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.fencing.demo.bout.BoutEvent;
+import org.fencing.demo.bout.BoutEventIngestor;
+import org.fencing.demo.bout.BoutEventRepository;
+import org.fencing.demo.bout.BoutEventRequest;
+import org.fencing.demo.bout.BoutEventType;
+import org.fencing.demo.bout.BoutIngestResult;
+import org.fencing.demo.bout.BoutScoreWriter;
+import org.fencing.demo.match.MatchBatchResult;
+import org.fencing.demo.match.MatchNotFoundException;
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.match.MatchUpdateRetrier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class BoutEventIngestorTest {
+
+    @Mock
+    private BoutScoreWriter writer;
+
+    @Mock
+    private BoutEventRepository boutEventRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoutEventIngestor ingestor;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ingestor = new BoutEventIngestor(writer, boutEventRepository, matchRepository,
+                new MatchUpdateRetrier(3, Duration.ZERO, meterRegistry), Duration.ofMillis(200), 100, 3, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ingestor.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void submit_SeveralTouches_WrittenTogetherInOneBatch() {
+        when(matchRepository.findEventIdById(5L)).thenReturn(Optional.of(1L));
+        when(boutEventRepository.findLastSequenceByMatchId(5L)).thenReturn(Optional.empty());
+        when(writer.append(eq(1L), anyList())).thenReturn(new MatchBatchResult());
+
+        BoutIngestResult result = ingestor.submit(1L, 5L, List.of(
+                new BoutEventRequest(1, BoutEventType.TOUCH, 1, 1, null),
+                new BoutEventRequest(2, BoutEventType.TOUCH, 2, 1, null),
+                new BoutEventRequest(3, BoutEventType.RED_CARD, 2, 1, null)));
+
+        assertEquals(3, result.getAccepted());
+        ArgumentCaptor<List<BoutEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer, timeout(2000)).append(eq(1L), captor.capture());
+        List<BoutEvent> written = captor.getValue();
+        assertEquals(3, written.size());
+        assertEquals(2, written.stream().mapToInt(BoutEvent::player1Points).sum());
+        assertEquals(1, written.stream().mapToInt(BoutEvent::player2Points).sum());
+    }
+
+    @Test
+    public void submit_ResentSequence_CountedAsDuplicate() {
+        when(matchRepository.findEventIdById(5L)).thenReturn(Optional.of(1L));
+        when(boutEventRepository.findLastSequenceByMatchId(5L)).thenReturn(Optional.of(7L));
+
+        BoutIngestResult result = ingestor.submit(1L, 5L, List.of(
+                new BoutEventRequest(7, BoutEventType.TOUCH, 1, 1, null)));
+
+        assertEquals(0, result.getAccepted());
+        assertEquals(1, result.getDuplicates());
+        assertEquals(7, result.getLastSequence());
+    }
+
+    @Test
+    public void submit_MatchFromOtherEvent_ThrowsIllegalArgumentException() {
+        when(matchRepository.findEventIdById(5L)).thenReturn(Optional.of(2L));
+        when(boutEventRepository.findLastSequenceByMatchId(5L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> ingestor.submit(1L, 5L, List.of(
+                new BoutEventRequest(1, BoutEventType.TOUCH, 1, 1, null))));
+        verify(writer, never()).append(eq(1L), anyList());
+    }
+
+    @Test
+    public void submit_TouchWithoutFencer_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ingestor.submit(1L, 5L, List.of(
+                new BoutEventRequest(1, BoutEventType.TOUCH, null, 1, null))));
+    }
+
+    @Test
+    public void submit_UnknownMatch_ThrowsMatchNotFoundException() {
+        when(matchRepository.findEventIdById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(MatchNotFoundException.class, () -> ingestor.submit(1L, 9L, List.of(
+                new BoutEventRequest(1, BoutEventType.TOUCH, 1, 1, null))));
+    }
+
+    @Test
+    public void submit_BatchDroppedAfterMaxAttempts_AcceptsResentEvents() throws InterruptedException {
+        when(matchRepository.findEventIdById(5L)).thenReturn(Optional.of(1L));
+        when(boutEventRepository.findLastSequenceByMatchId(5L)).thenReturn(Optional.empty());
+        when(writer.append(eq(1L), anyList())).thenThrow(new IllegalStateException("database unavailable"));
+
+        ingestor.submit(1L, 5L, List.of(
+                new BoutEventRequest(1, BoutEventType.TOUCH, 1, 1, null),
+                new BoutEventRequest(2, BoutEventType.TOUCH, 2, 1, null)));
+        awaitDropped(2);
+
+        BoutIngestResult resent = ingestor.submit(1L, 5L, List.of(
+                new BoutEventRequest(1, BoutEventType.TOUCH, 1, 1, null)));
+
+        assertEquals(1, resent.getAccepted());
+        assertEquals(0, resent.getDuplicates());
+        assertEquals(1, resent.getLastSequence());
+    }
+
+    private void awaitDropped(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("bout.events").tag("outcome", "dropped").counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, meterRegistry.get("bout.events").tag("outcome", "dropped").counter().count());
+    }
+}
@@ -0,0 +1,112 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.fencing.demo.bout.BoutEvent;
+import org.fencing.demo.bout.BoutEventRepository;
+import org.fencing.demo.bout.BoutEventType;
+import org.fencing.demo.bout.BoutScoreWriter;
+import org.fencing.demo.live.MatchScoreChangedEvent;
+import org.fencing.demo.match.Match;
+import org.fencing.demo.match.MatchBatchResult;
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.match.MatchScore;
+import org.fencing.demo.match.MatchService;
+import org.fencing.demo.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+public class BoutScoreWriterTest {
+
+    @Mock
+    private BoutEventRepository boutEventRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchService matchService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BoutScoreWriter writer;
+
+    private Match match;
+
+    @BeforeEach
+    public void setUp() {
+        writer = new BoutScoreWriter(boutEventRepository, matchRepository, matchService, eventPublisher);
+        match = new Match();
+        match.setId(5L);
+        match.setPlayer1(new Player());
+        match.setPlayer2(new Player());
+    }
+
+    @Test
+    public void append_RunningTouches_UpdatesScoreWithoutApplyingResult() {
+        when(matchRepository.findAllById(Set.of(5L))).thenReturn(List.of(match));
+
+        MatchBatchResult result = writer.append(1L, List.of(touch(1, 1), touch(2, 1), touch(3, 2)));
+
+        assertEquals(2, match.getPlayer1Score());
+        assertEquals(1, match.getPlayer2Score());
+        assertTrue(match.isInProgress());
+        assertFalse(match.isFinished());
+        assertEquals(List.of(match), result.getUpdated());
+        verify(matchService, never()).updateMatches(eq(1L), anyList());
+        verify(eventPublisher).publishEvent(any(MatchScoreChangedEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void append_BoutEnd_AppliesFinalScoreThroughMatchService() {
+        match.setPlayer1Score(4);
+        match.setPlayer2Score(3);
+        match.setInProgress(true);
+        when(matchRepository.findAllById(Set.of(5L))).thenReturn(List.of(match));
+        when(matchService.updateMatches(eq(1L), anyList())).thenReturn(new MatchBatchResult());
+
+        writer.append(1L, List.of(touch(8, 1),
+                BoutEvent.builder().matchId(5L).sequence(9).type(BoutEventType.BOUT_END).build()));
+
+        ArgumentCaptor<List<MatchScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(matchService).updateMatches(eq(1L), captor.capture());
+        assertEquals(List.of(new MatchScore(5L, 5, 3)), captor.getValue());
+    }
+
+    @Test
+    public void append_TouchAfterBoutEnded_ReportsFailure() {
+        match.setPlayer1Score(5);
+        match.setPlayer1EloChange(12);
+        match.setPlayer2EloChange(-12);
+        when(matchRepository.findAllById(Set.of(5L))).thenReturn(List.of(match));
+
+        MatchBatchResult result = writer.append(1L, List.of(touch(10, 2)));
+
+        assertEquals(1, result.getFailures().size());
+        assertEquals(0, match.getPlayer2Score());
+        verify(matchService, never()).updateMatches(eq(1L), anyList());
+    }
+
+    private static BoutEvent touch(long sequence, int fencer) {
+        return BoutEvent.builder().matchId(5L).sequence(sequence).type(BoutEventType.TOUCH).fencer(fencer).build();
+    }
+}
@@ -0,0 +1,111 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.fencing.demo.security.CachingUserDetailsService;
+import org.fencing.demo.user.Role;
+import org.fencing.demo.user.User;
+import org.fencing.demo.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingUserDetailsService userDetailsService;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new CachingUserDetailsService(userRepository, 2, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    public void loadUserByUsername_RepeatedLookup_HitsDatabaseOnce() {
+        User user = new User("testUser", "password123", "test@example.com", Role.USER);
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(user));
+
+        UserDetails first = userDetailsService.loadUserByUsername("testUser");
+        UserDetails second = userDetailsService.loadUserByUsername("testUser");
+
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByUsername("testUser");
+        assertEquals(1, userDetailsService.hitCount());
+        assertEquals(1, userDetailsService.missCount());
+        assertEquals(1, meterRegistry.get("security.userdetails.cache").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    public void loadUserByUsername_AfterInvalidate_ReloadsUser() {
+        User user = new User("testUser", "password123", "test@example.com", Role.USER);
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("testUser");
+        userDetailsService.invalidate("testUser");
+        userDetailsService.loadUserByUsername("testUser");
+
+        verify(userRepository, times(2)).findByUsername("testUser");
+    }
+
+    @Test
+    public void invalidate_InsideTransaction_DropsEntryAgainAfterCommit() {
+        User user = new User("testUser", "password123", "test@example.com", Role.USER);
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(user));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userDetailsService.invalidate("testUser");
+            // A concurrent request reloads the row before the update is committed
+            userDetailsService.loadUserByUsername("testUser");
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userDetailsService.loadUserByUsername("testUser");
+
+        verify(userRepository, times(2)).findByUsername("testUser");
+    }
+
+    @Test
+    public void loadUserByUsername_UnknownUser_ThrowsAndIsNotCached() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("ghost"));
+
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    public void loadUserByUsername_CacheFull_StaysWithinMaxEntries() {
+        for (String username : new String[] { "a", "b", "c" }) {
+            when(userRepository.findByUsername(username))
+                    .thenReturn(Optional.of(new User(username, "password123", username + "@example.com", Role.USER)));
+            userDetailsService.loadUserByUsername(username);
+        }
+
+        assertEquals(2, meterRegistry.get("security.userdetails.cache.size").gauge().value());
+    }
+}
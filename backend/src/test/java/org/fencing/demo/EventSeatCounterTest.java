@@ -0,0 +1,95 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.fencing.demo.registration.EventSeatCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class EventSeatCounterTest {
+
+    @Mock
+    private PlayerRankRepository playerRankRepository;
+
+    private EventSeatCounter seatCounter;
+
+    @BeforeEach
+    public void setUp() {
+        seatCounter = new EventSeatCounter(playerRankRepository, Duration.ZERO);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void tryAcquire_SeatsInFlight_DoesNotReconcileOrOverbook() {
+        when(playerRankRepository.countByEventId(1L)).thenReturn(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(seatCounter.tryAcquire(1L, 2));
+        // The in-flight seat isn't in the database yet, a recount would hand it out again
+        assertFalse(seatCounter.tryAcquire(1L, 2));
+        assertFalse(seatCounter.tryAcquire(1L, 2));
+
+        verify(playerRankRepository, times(1)).countByEventId(1L);
+    }
+
+    @Test
+    public void tryAcquire_TransactionRolledBack_FreesInFlightSeat() {
+        when(playerRankRepository.countByEventId(1L)).thenReturn(0L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(seatCounter.tryAcquire(1L, 1));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(seatCounter.tryAcquire(1L, 1));
+    }
+
+    @Test
+    public void tryAcquire_FullAndIdle_RecountsFromDatabase() {
+        // A player withdrew on another instance since the counter was seeded
+        when(playerRankRepository.countByEventId(1L)).thenReturn(1L, 0L);
+
+        assertTrue(seatCounter.tryAcquire(1L, 1));
+        verify(playerRankRepository, times(2)).countByEventId(1L);
+    }
+
+    @Test
+    public void tryAcquire_FullWithinReconcileInterval_SkipsRecount() {
+        seatCounter = new EventSeatCounter(playerRankRepository, Duration.ofMinutes(1));
+        when(playerRankRepository.countByEventId(1L)).thenReturn(1L);
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(seatCounter.tryAcquire(1L, 1));
+        }
+
+        verify(playerRankRepository, times(1)).countByEventId(1L);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -1,6 +1,7 @@
 package org.fencing.demo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -17,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 
 import org.fencing.demo.events.Event;
@@ -24,22 +26,33 @@ import org.fencing.demo.events.EventNotFoundException;
 import org.fencing.demo.events.EventRepository;
 import org.fencing.demo.events.EventServiceImpl;
 import org.fencing.demo.events.Gender;
+import org.fencing.demo.events.MatchesNotCompleteException;
+import org.fencing.demo.events.PlayerWaitlistedException;
+import org.fencing.demo.events.RegistrationBatchResult;
 import org.fencing.demo.events.WeaponType;
-import org.fencing.demo.groupstage.GroupStage;
-import org.fencing.demo.knockoutstage.KnockoutStage;
+import org.fencing.demo.groupstage.GroupStageRepository;
+import org.fencing.demo.knockoutstage.KnockoutStageRepository;
+import org.fencing.demo.match.MatchRepository;
 import org.fencing.demo.player.Player;
 import org.fencing.demo.player.PlayerNotFoundException;
 import org.fencing.demo.player.PlayerRepository;
 import org.fencing.demo.playerrank.PlayerRank;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.fencing.demo.registration.EventSeatCounter;
+import org.fencing.demo.registration.WaitlistEntry;
+import org.fencing.demo.registration.WaitlistRepository;
 import org.fencing.demo.tournament.Tournament;
 import org.fencing.demo.tournament.TournamentNotFoundException;
 import org.fencing.demo.tournament.TournamentRepository;
 import org.fencing.demo.user.Role;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 public class EventServiceTest {
@@ -53,6 +66,27 @@ public class EventServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private PlayerRankRepository playerRankRepository;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private EventSeatCounter seatCounter;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private GroupStageRepository groupStageRepository;
+
+    @Mock
+    private KnockoutStageRepository knockoutStageRepository;
+
+    @Captor
+    private ArgumentCaptor<List<PlayerRank>> playerRanksCaptor;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -73,6 +107,7 @@ public class EventServiceTest {
 
         assertNotNull(result);
         assertEquals("Spring Championship", result.getTournament().getName());
+        assertTrue(validTournament.getEvents().contains(result));
         verify(eventRepository, times(1)).save(validEvent);
     }
 
@@ -252,13 +287,120 @@ public class EventServiceTest {
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
         when(playerRepository.findByUsername(player.getUsername())).thenReturn(List.of(player));
-        when(eventRepository.save(any(Event.class))).thenReturn(event);
 
         Event updatedEvent = eventService.addPlayerToEvent(eventId, player.getUsername());
 
         assertNotNull(updatedEvent);
-        assertEquals(1, updatedEvent.getRankings().size());
-        verify(eventRepository).save(event);
+        ArgumentCaptor<PlayerRank> captor = ArgumentCaptor.forClass(PlayerRank.class);
+        verify(playerRankRepository).saveAndFlush(captor.capture());
+        assertEquals(player, captor.getValue().getPlayer());
+        assertEquals(event, captor.getValue().getEvent());
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    public void addPlayerToEvent_AlreadyRegistered_ThrowsIllegalStateException() {
+        Long eventId = 1L;
+        Event event = createValidEvent(createValidTournament());
+        Player player = createValidPlayer();
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(playerRepository.findByUsername(player.getUsername())).thenReturn(List.of(player));
+        when(playerRankRepository.saveAndFlush(any(PlayerRank.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate player_rank"));
+
+        assertThrows(IllegalStateException.class, () -> eventService.addPlayerToEvent(eventId, player.getUsername()));
+    }
+
+    @Test
+    public void addPlayerToEvent_OverlappingEvent_ThrowsIllegalStateException() {
+        Long eventId = 1L;
+        Event event = createValidEvent(createValidTournament());
+        Player player = createValidPlayer();
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(playerRepository.findByUsername(player.getUsername())).thenReturn(List.of(player));
+        when(eventRepository.existsOverlappingEventForPlayer(player.getId(), event.getStartDate(), event.getEndDate()))
+                .thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> eventService.addPlayerToEvent(eventId, player.getUsername()));
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    public void addPlayersToEvent_MixedBatch_InsertsValidAndReportsFailures() {
+        Long eventId = 1L;
+        Event event = createValidEvent(createValidTournament());
+        Player player = createValidPlayer();
+        Player conflicted = createValidPlayer();
+        conflicted.setId(2L);
+        conflicted.setUsername("Player2");
+        List<String> usernames = List.of("Player1", "Player2", "ghost", "Player1");
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(playerRepository.findByUsernameIn(usernames)).thenReturn(List.of(player, conflicted));
+        when(eventRepository.findPlayerIdsWithOverlappingEvents(any(), any(), any())).thenReturn(List.of(2L));
+
+        RegistrationBatchResult result = eventService.addPlayersToEvent(eventId, usernames);
+
+        assertEquals(Set.of("Player2", "ghost"), result.getRejected().keySet());
+        assertTrue(result.getWaitlisted().isEmpty());
+        verify(playerRankRepository).saveAllAndFlush(playerRanksCaptor.capture());
+        assertEquals(1, playerRanksCaptor.getValue().size());
+        assertEquals(player, playerRanksCaptor.getValue().get(0).getPlayer());
+    }
+
+    @Test
+    public void addPlayerToEvent_EventFull_AddsPlayerToWaitlist() {
+        Long eventId = 1L;
+        Event event = createValidEvent(createValidTournament());
+        event.setCapacity(1);
+        Player player = createValidPlayer();
+        WaitlistEntry entry = new WaitlistEntry(event, player);
+        entry.setId(5L);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(playerRepository.findByUsername(player.getUsername())).thenReturn(List.of(player));
+        when(seatCounter.tryAcquire(eventId, 1)).thenReturn(false);
+        when(waitlistRepository.findByEventIdAndPlayerUsername(event.getId(), player.getUsername()))
+                .thenReturn(Optional.empty());
+        when(waitlistRepository.save(any(WaitlistEntry.class))).thenReturn(entry);
+        when(waitlistRepository.countByEventIdAndIdLessThan(event.getId(), 5L)).thenReturn(2L);
+
+        PlayerWaitlistedException exception = assertThrows(PlayerWaitlistedException.class,
+                () -> eventService.addPlayerToEvent(eventId, player.getUsername()));
+
+        assertTrue(exception.getMessage().contains("position 3"));
+        verify(playerRankRepository, never()).saveAndFlush(any(PlayerRank.class));
+    }
+
+    @Test
+    public void removePlayerFromEvent_EventWithWaitlist_PromotesNextPlayer() {
+        Long eventId = 1L;
+        Event event = createValidEvent(createValidTournament());
+        event.setCapacity(1);
+        Player player = createValidPlayer();
+        PlayerRank playerRank = new PlayerRank();
+        playerRank.setPlayer(player);
+        playerRank.setEvent(event);
+        event.getRankings().add(playerRank);
+        Player waitlisted = createValidPlayer();
+        waitlisted.setId(2L);
+        waitlisted.setUsername("Player2");
+        WaitlistEntry entry = new WaitlistEntry(event, waitlisted);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.save(any(Event.class))).thenReturn(event);
+        when(waitlistRepository.findByEventIdOrderByIdAsc(event.getId())).thenReturn(List.of(entry));
+        when(seatCounter.tryAcquire(event.getId(), 1)).thenReturn(true);
+
+        eventService.removePlayerFromEvent(eventId, player.getUsername());
+
+        verify(seatCounter).release(event.getId());
+        verify(waitlistRepository).delete(entry);
+        ArgumentCaptor<PlayerRank> captor = ArgumentCaptor.forClass(PlayerRank.class);
+        verify(playerRankRepository).save(captor.capture());
+        assertEquals(waitlisted, captor.getValue().getPlayer());
     }
 
     @Test
@@ -373,32 +515,26 @@ public class EventServiceTest {
 
     @Test
     public void updatePlayerEloAfterEvent_Success() {
-        Event event = createValidEvent(createValidTournament());
         Player player = createValidPlayer();
 
-        // Initialize stages
-        GroupStage groupStage = new GroupStage();
-        groupStage.setMatches(new ArrayList<>());
-        KnockoutStage knockoutStage = new KnockoutStage();
-        knockoutStage.setMatches(new ArrayList<>());
-
-        event.setGroupStages(new ArrayList<>(List.of(groupStage)));
-        event.setKnockoutStages(new ArrayList<>(List.of(knockoutStage)));
+        stubEventWithStages(1L);
+        when(playerRepository.findParticipantsByEventId(1L)).thenReturn(List.of(player));
 
-        // Set up player ranking
-        PlayerRank playerRank = new PlayerRank();
-        playerRank.setPlayer(player);
-        playerRank.setEvent(event);
-        playerRank.setTempElo(2500);
-        event.setRankings(new TreeSet<>(List.of(playerRank)));
+        List<Player> result = eventService.updatePlayerEloAfterEvent(1L);
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(playerRepository.findAll()).thenReturn(List.of(player));
+        assertEquals(List.of(player), result);
+        verify(playerRepository).applyEventElo(1L);
+        verify(playerRepository, never()).findAll();
+        verify(playerRepository, never()).save(any(Player.class));
+    }
 
-        List<Player> result = eventService.updatePlayerEloAfterEvent(1L);
+    @Test
+    public void updatePlayerEloAfterEvent_MatchesIncomplete_ThrowsMatchesNotCompleteException() {
+        stubEventWithStages(1L);
+        when(matchRepository.existsByEventIdAndFinishedFalse(1L)).thenReturn(true);
 
-        assertEquals(2500, player.getElo());
-        assertTrue(player.isReached2400());
+        assertThrows(MatchesNotCompleteException.class, () -> eventService.updatePlayerEloAfterEvent(1L));
+        verify(playerRepository, never()).applyEventElo(anyLong());
     }
 
     @Test
@@ -416,38 +552,35 @@ public class EventServiceTest {
 
     @Test
     public void allMatchesComplete_Success() {
-        Event event = createValidEvent(createValidTournament());
-
-        // Initialize GroupStage with matches
-        GroupStage groupStage = new GroupStage();
-        groupStage.setMatches(new ArrayList<>());
-
-        // Initialize KnockoutStage with matches
-        KnockoutStage knockoutStage = new KnockoutStage();
-        knockoutStage.setMatches(new ArrayList<>());
-
-        event.setGroupStages(new ArrayList<>());
-        event.setKnockoutStages(new ArrayList<>());
-        event.getGroupStages().add(groupStage);
-        event.getKnockoutStages().add(knockoutStage);
-
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        stubEventWithStages(1L);
 
         boolean result = eventService.allMatchesComplete(1L);
         assertTrue(result);
+        verify(eventRepository, never()).findById(1L);
     }
 
     @Test
-    public void allMatchesComplete_NoStages_ThrowsIllegalArgumentException() {
-        Event event = createValidEvent(createValidTournament());
-        event.setGroupStages(new ArrayList<>());
-        event.setKnockoutStages(new ArrayList<>());
+    public void allMatchesComplete_UnfinishedMatch_ReturnsFalse() {
+        stubEventWithStages(1L);
+        when(matchRepository.existsByEventIdAndFinishedFalse(1L)).thenReturn(true);
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        assertFalse(eventService.allMatchesComplete(1L));
+    }
+
+    @Test
+    public void allMatchesComplete_NoStages_ThrowsIllegalArgumentException() {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(groupStageRepository.existsByEventId(1L)).thenReturn(false);
 
         assertThrows(IllegalArgumentException.class, () -> eventService.allMatchesComplete(1L));
     }
 
+    private void stubEventWithStages(Long eventId) {
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        when(groupStageRepository.existsByEventId(eventId)).thenReturn(true);
+        when(knockoutStageRepository.existsByEventId(eventId)).thenReturn(true);
+    }
+
     private Tournament createValidTournament() {
         return Tournament.builder()
                 .name("Spring Championship")
@@ -0,0 +1,81 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fencing.demo.idempotency.IdempotencyKeyReusedException;
+import org.fencing.demo.idempotency.IdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class IdempotencyStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore(2, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    public void execute_SameKeyResent_ReturnsOriginalResultWithoutRunningAgain() {
+        AtomicInteger runs = new AtomicInteger();
+
+        String first = store.execute("admin:match/1", "key-1", List.of(15, 10), () -> "saved-" + runs.incrementAndGet());
+        String second = store.execute("admin:match/1", "key-1", List.of(15, 10), () -> "saved-" + runs.incrementAndGet());
+
+        assertEquals("saved-1", first);
+        assertEquals("saved-1", second);
+        assertEquals(1, runs.get());
+        assertEquals(1, meterRegistry.get("idempotency.replays").counter().count());
+    }
+
+    @Test
+    public void execute_SameKeyDifferentRequest_ThrowsIdempotencyKeyReusedException() {
+        store.execute("admin:match/1", "key-1", List.of(15, 10), () -> "saved");
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> store.execute("admin:match/1", "key-1", List.of(15, 12), () -> "saved"));
+    }
+
+    @Test
+    public void execute_FailedRequest_IsNotRemembered() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> store.execute("admin:match/1", "key-1", List.of(15, 10), () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("database unavailable");
+        }));
+        String retried = store.execute("admin:match/1", "key-1", List.of(15, 10), () -> "saved-" + runs.incrementAndGet());
+
+        assertEquals("saved-2", retried);
+    }
+
+    @Test
+    public void execute_NoKey_AlwaysRuns() {
+        AtomicInteger runs = new AtomicInteger();
+
+        store.execute("admin:match/1", null, List.of(15, 10), runs::incrementAndGet);
+        store.execute("admin:match/1", null, List.of(15, 10), runs::incrementAndGet);
+
+        assertEquals(2, runs.get());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void execute_StoreFull_StaysWithinMaxEntries() {
+        for (int i = 0; i < 5; i++) {
+            store.execute("admin:match/" + i, "key-" + i, List.of(i), () -> "saved");
+        }
+
+        assertEquals(2, store.size());
+    }
+}
@@ -0,0 +1,106 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.fencing.demo.security.JwtPrincipal;
+import org.fencing.demo.security.JwtService;
+import org.fencing.demo.security.TokenVersionRegistry;
+import org.fencing.demo.security.VerifiedTokenCache;
+import org.fencing.demo.user.Role;
+import org.fencing.demo.user.User;
+import org.fencing.demo.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private VerifiedTokenCache tokenCache;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        tokenCache = new VerifiedTokenCache(100);
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository, Duration.ofMinutes(5));
+        jwtService = new JwtService(tokenCache, tokenVersionRegistry, Duration.ofMinutes(15));
+        user = new User("testUser", "encodedPassword", "test@example.com", Role.ADMIN);
+        user.setId(42L);
+        lenient().when(userRepository.findTokenVersionByUsername("testUser"))
+                .thenAnswer(invocation -> Optional.of(user.getTokenVersion()));
+    }
+
+    @Test
+    public void isTokenValid_GeneratedToken_ReturnsTrueAndCachesClaims() {
+        String token = jwtService.generateToken(user);
+
+        assertTrue(jwtService.isTokenValid(token, user));
+        assertEquals("testUser", jwtService.extractUsername(token));
+        assertEquals(1, tokenCache.size());
+    }
+
+    @Test
+    public void extractPrincipal_GeneratedToken_ReturnsClaimsBasedPrincipal() {
+        String token = jwtService.generateToken(user);
+
+        JwtPrincipal principal = jwtService.extractPrincipal(token);
+
+        assertNotNull(principal);
+        assertEquals(42L, principal.getId());
+        assertEquals("testUser", principal.getUsername());
+        assertTrue(principal.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    @Test
+    public void extractPrincipal_RevokedToken_ReturnsNull() {
+        String token = jwtService.generateToken(user);
+
+        tokenVersionRegistry.revoke(user);
+
+        assertNull(jwtService.extractPrincipal(token));
+    }
+
+    @Test
+    public void extractPrincipal_TokenIssuedAfterRevocation_ReturnsPrincipal() {
+        tokenVersionRegistry.revoke(user);
+
+        String token = jwtService.generateToken(user);
+
+        assertNotNull(jwtService.extractPrincipal(token));
+        assertFalse(tokenVersionRegistry.isCurrent("testUser", 0));
+    }
+
+    @Test
+    public void extractPrincipal_DeletedUser_ReturnsNull() {
+        String token = jwtService.generateToken(user);
+        when(userRepository.findTokenVersionByUsername("testUser")).thenReturn(Optional.empty());
+        tokenVersionRegistry.forget("testUser");
+
+        assertNull(jwtService.extractPrincipal(token));
+    }
+
+    @Test
+    public void revoke_User_BumpsPersistedTokenVersion() {
+        tokenVersionRegistry.revoke(user);
+
+        assertEquals(1, user.getTokenVersion());
+        assertEquals(1, tokenVersionRegistry.currentVersion("testUser"));
+    }
+}
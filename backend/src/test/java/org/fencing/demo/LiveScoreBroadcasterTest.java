@@ -0,0 +1,73 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.fencing.demo.live.LiveScoreBroadcaster;
+import org.fencing.demo.live.MatchScoreChangedEvent;
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveScoreBroadcasterTest {
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private PlayerRankRepository playerRankRepository;
+
+    private LiveScoreBroadcaster broadcaster;
+
+    @BeforeEach
+    public void setUp() {
+        broadcaster = new LiveScoreBroadcaster(matchRepository, playerRankRepository,
+                new ObjectMapper().findAndRegisterModules(), Duration.ofMillis(20), 8, 1, Duration.ofMinutes(1),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    public void onMatchScoreChanged_RepeatedChangesToOneMatch_AreCoalescedIntoOneRead() {
+        when(playerRankRepository.findStandingsByEventId(1L)).thenReturn(List.of());
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(1L);
+
+        broadcaster.onMatchScoreChanged(new MatchScoreChangedEvent(1L, 5L));
+        broadcaster.onMatchScoreChanged(new MatchScoreChangedEvent(1L, 5L));
+
+        verify(matchRepository, timeout(1000)).findSummariesByIds(Set.of(5L));
+        verify(matchRepository, after(200).times(1)).findSummariesByIds(any());
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    public void onMatchScoreChanged_NoViewers_IsIgnored() {
+        broadcaster.onMatchScoreChanged(new MatchScoreChangedEvent(2L, 7L));
+
+        verify(matchRepository, after(100).never()).findSummariesByIds(any());
+    }
+}
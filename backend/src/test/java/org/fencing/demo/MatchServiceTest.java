@@ -2,11 +2,15 @@ package org.fencing.demo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,24 +29,33 @@ import org.fencing.demo.events.EventRepository;
 import org.fencing.demo.events.EventServiceImpl;
 import org.fencing.demo.events.Gender;
 import org.fencing.demo.events.WeaponType;
+import org.fencing.demo.groupstage.GroupStage;
 import org.fencing.demo.groupstage.GroupStageRepository;
 import org.fencing.demo.knockoutstage.KnockoutStage;
 import org.fencing.demo.knockoutstage.KnockoutStageNotFoundException;
 import org.fencing.demo.knockoutstage.KnockoutStageRepository;
 import org.fencing.demo.match.Match;
+import org.fencing.demo.match.MatchBatchResult;
+import org.fencing.demo.match.MatchFilter;
 import org.fencing.demo.match.MatchNotFoundException;
+import org.fencing.demo.match.MatchPage;
 import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.match.MatchScore;
 import org.fencing.demo.match.MatchServiceImpl;
+import org.fencing.demo.match.MatchSummary;
 import org.fencing.demo.player.Player;
 import org.fencing.demo.player.PlayerRepository;
 import org.fencing.demo.playerrank.PlayerRank;
+import org.fencing.demo.playerrank.PlayerRankRepository;
 import org.fencing.demo.tournament.Tournament;
 import org.fencing.demo.tournament.TournamentRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class MatchServiceTest {
@@ -65,6 +78,12 @@ public class MatchServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private PlayerRankRepository playerRankRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -144,7 +163,7 @@ public class MatchServiceTest {
 
         // Mock knockoutStageRepository behavior
         when(knockoutStageRepository.existsById(knockoutStageId)).thenReturn(true);
-        when(knockoutStageRepository.findById(knockoutStageId)).thenReturn(Optional.of(knockoutStage));
+        when(matchRepository.findByKnockoutStageIdOrderByIdAsc(knockoutStageId)).thenReturn(expectedMatches);
 
         // Call the service method
         List<Match> result = matchService.getAllMatchesForKnockoutStageByKnockoutStageId(knockoutStageId);
@@ -155,7 +174,9 @@ public class MatchServiceTest {
 
         // Verify repository interactions
         verify(knockoutStageRepository, times(1)).existsById(knockoutStageId);
-        verify(knockoutStageRepository, times(1)).findById(knockoutStageId);
+        // The stage's matches come from one entity-graph query, not the lazy stage collection
+        verify(matchRepository, times(1)).findByKnockoutStageIdOrderByIdAsc(knockoutStageId);
+        verify(knockoutStageRepository, never()).findById(knockoutStageId);
     }
 
     @Test
@@ -197,7 +218,7 @@ public class MatchServiceTest {
         verify(matchRepository, times(1)).findAll();
     }
 
-    @Test // ERROR IllegalArgument Player is not registered in this event
+    @Test
     public void updateMatch_ValidIds_ReturnsUpdatedMatch() {
         Long eventId = 1L;
         Long matchId = 1L;
@@ -208,12 +229,8 @@ public class MatchServiceTest {
         PlayerRank playerRank1 = mock(PlayerRank.class); // Mock PlayerRank
         PlayerRank playerRank2 = mock(PlayerRank.class); // Mock PlayerRank
 
-        // Mock the getPlayer() method of PlayerRank to return valid players
-        when(playerRank1.getPlayer()).thenReturn(player1);
-        when(playerRank2.getPlayer()).thenReturn(player2);
-
-        event.getRankings().add(playerRank1);
-        event.getRankings().add(playerRank2);
+        when(playerRankRepository.findByEventIdAndPlayerId(eventId, 1L)).thenReturn(Optional.of(playerRank1));
+        when(playerRankRepository.findByEventIdAndPlayerId(eventId, 2L)).thenReturn(Optional.of(playerRank2));
 
         Match existingMatch = createValidMatch(event, player1, player2);
         Match newMatch = createUpdatedMatch(event, player1, player2);
@@ -241,6 +258,124 @@ public class MatchServiceTest {
 
 
 
+    @Test
+    public void updateMatch_LastGroupMatchFinished_MarksGroupStageCompleted() {
+        Long eventId = 1L;
+        Long matchId = 1L;
+        Event event = createValidEvent();
+        Player player1 = createValidPlayer(1);
+        Player player2 = createValidPlayer(2);
+        PlayerRank playerRank1 = mock(PlayerRank.class);
+        PlayerRank playerRank2 = mock(PlayerRank.class);
+        when(playerRankRepository.findByEventIdAndPlayerId(eventId, 1L)).thenReturn(Optional.of(playerRank1));
+        when(playerRankRepository.findByEventIdAndPlayerId(eventId, 2L)).thenReturn(Optional.of(playerRank2));
+
+        GroupStage groupStage = GroupStage.builder().id(3L).event(event).build();
+        Match existingMatch = createValidMatch(event, player1, player2);
+        existingMatch.setGroupStage(groupStage);
+
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(existingMatch));
+        when(matchRepository.save(any(Match.class))).thenReturn(existingMatch);
+        when(matchRepository.existsByGroupStageIdAndFinishedFalse(3L)).thenReturn(false);
+
+        matchService.updateMatch(eventId, matchId, createUpdatedMatch(event, player1, player2));
+
+        assertTrue(groupStage.isAllMatchesCompleted());
+    }
+
+    @Test
+    public void updateMatches_MixedSheet_AppliesValidScoresInMatchOrder() {
+        Long eventId = 1L;
+        Event event = createValidEvent();
+        Player player1 = createValidPlayer(1);
+        Player player2 = createValidPlayer(2);
+        PlayerRank playerRank1 = mock(PlayerRank.class);
+        PlayerRank playerRank2 = mock(PlayerRank.class);
+        when(playerRank1.getPlayer()).thenReturn(player1);
+        when(playerRank2.getPlayer()).thenReturn(player2);
+
+        Match firstMatch = createValidMatch(event, player1, player2);
+        Match secondMatch = createValidMatch(event, player1, player2);
+        secondMatch.setId(2L);
+
+        when(matchRepository.findAllById(any())).thenReturn(List.of(firstMatch, secondMatch));
+        when(playerRankRepository.findByEventIdAndPlayerIdIn(eq(eventId), any())).thenReturn(List.of(playerRank1, playerRank2));
+
+        MatchBatchResult result = matchService.updateMatches(eventId, List.of(
+                new MatchScore(2L, 5, 3),
+                new MatchScore(1L, 5, 4),
+                new MatchScore(1L, 5, 0),
+                new MatchScore(9L, 5, 0),
+                new MatchScore(3L, -1, 5)));
+
+        assertEquals(List.of(firstMatch, secondMatch), result.getUpdated());
+        assertEquals(3, result.getFailures().size());
+        assertEquals(5, firstMatch.getPlayer1Score());
+        assertEquals(4, firstMatch.getPlayer2Score());
+        InOrder sheetOrder = inOrder(playerRank1);
+        sheetOrder.verify(playerRank1).updateAfterMatch(5, 4, playerRank2);
+        sheetOrder.verify(playerRank1).updateAfterMatch(5, 3, playerRank2);
+    }
+
+    @Test
+    public void updateMatch_ScoreCorrection_RevertsPreviousResultBeforeApplyingNew() {
+        Long eventId = 1L;
+        Long matchId = 1L;
+        Event event = createValidEvent();
+        Player player1 = createValidPlayer(1);
+        Player player2 = createValidPlayer(2);
+        PlayerRank playerRank1 = mock(PlayerRank.class);
+        PlayerRank playerRank2 = mock(PlayerRank.class);
+        when(playerRankRepository.findByEventIdAndPlayerId(eventId, 1L)).thenReturn(Optional.of(playerRank1));
+        when(playerRankRepository.findByEventIdAndPlayerId(eventId, 2L)).thenReturn(Optional.of(playerRank2));
+
+        Match existingMatch = createValidMatch(event, player1, player2);
+        existingMatch.setPlayer1EloChange(12);
+        existingMatch.setPlayer2EloChange(-12);
+
+        when(matchRepository.findById(matchId)).thenReturn(Optional.of(existingMatch));
+        when(matchRepository.save(any(Match.class))).thenReturn(existingMatch);
+
+        matchService.updateMatch(eventId, matchId, createUpdatedMatch(event, player1, player2));
+
+        InOrder correction = inOrder(playerRank1, playerRank2);
+        correction.verify(playerRank1).revertMatch(15, 10, 12);
+        correction.verify(playerRank2).revertMatch(10, 15, -12);
+        correction.verify(playerRank1).updateAfterMatch(20, 18, playerRank2);
+        correction.verify(playerRank2).updateAfterMatch(18, 20, playerRank1);
+        assertEquals(20, existingMatch.getPlayer1Score());
+        assertTrue(existingMatch.hasAppliedResult());
+    }
+
+    @Test
+    public void getMatches_MoreRowsThanLimit_ReturnsPageWithNextCursor() {
+        MatchFilter filter = new MatchFilter();
+        filter.setPlayerId(1L);
+        when(matchRepository.findSummaries(filter, null, 3))
+                .thenReturn(List.of(createSummary(9L), createSummary(7L), createSummary(4L)));
+
+        MatchPage page = matchService.getMatches(filter, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(7L, page.getNextCursor());
+    }
+
+    @Test
+    public void getMatches_LastPage_ReturnsNullCursor() {
+        MatchFilter filter = new MatchFilter();
+        when(matchRepository.findSummaries(filter, 4L, 51)).thenReturn(List.of(createSummary(2L)));
+
+        MatchPage page = matchService.getMatches(filter, 4L, null);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void getMatches_LimitTooLarge_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> matchService.getMatches(new MatchFilter(), null, 1000));
+    }
+
     @Test
     public void updateMatch_NonExistingMatch_ThrowsMatchNotFoundException() {
         Long eventId = 1L;
@@ -290,12 +425,12 @@ public class MatchServiceTest {
         Player player2 = createValidPlayer(2);
 
         PlayerRank playerRank1 = createPlayerRank(1, player1, event);
-        event.getRankings().add(playerRank1);
 
         Match existingMatch = createValidMatch(event, player1, player2);
         Match newMatch = createUpdatedMatch(event, player1, player2);
 
         when(matchRepository.findById(matchId)).thenReturn(Optional.of(existingMatch));
+        when(playerRankRepository.findByEventIdAndPlayerId(eventId, 1L)).thenReturn(Optional.of(playerRank1));
 
         assertThrows(IllegalArgumentException.class, () -> {
             matchService.updateMatch(eventId, matchId, newMatch);
@@ -393,6 +528,12 @@ public class MatchServiceTest {
                 .build();
     }
 
+    private MatchSummary createSummary(long id) {
+        return new MatchSummary(id, 1L, LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 2, 18, 0),
+                Gender.MALE, WeaponType.FOIL, 1L, "Spring Championship", "Sports Arena", 3L, null,
+                1L, "Player1", 2L, "Player2", 5, 3, true);
+    }
+
     private Match createUpdatedMatch(Event event, Player player1, Player player2) {
         return Match.builder()
                 .id(1L)
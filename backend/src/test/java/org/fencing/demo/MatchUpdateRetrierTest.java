@@ -0,0 +1,69 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fencing.demo.match.ConcurrentMatchUpdateException;
+import org.fencing.demo.match.MatchUpdateRetrier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MatchUpdateRetrierTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MatchUpdateRetrier retrier;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retrier = new MatchUpdateRetrier(3, Duration.ZERO, meterRegistry);
+    }
+
+    @Test
+    public void execute_ConflictThenSuccess_RetriesAndReturnsResult() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retrier.execute("update", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ObjectOptimisticLockingFailureException("PlayerRank", 1L);
+            }
+            return "saved";
+        });
+
+        assertEquals("saved", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, meterRegistry.get("match.update.conflicts").tag("outcome", "retried").counter().count());
+    }
+
+    @Test
+    public void execute_ConflictEveryAttempt_ThrowsConcurrentMatchUpdateException() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ConcurrentMatchUpdateException.class, () -> retrier.execute("update", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("Match", 1L);
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(2, meterRegistry.get("match.update.conflicts").tag("outcome", "retried").counter().count());
+        assertEquals(1, meterRegistry.get("match.update.conflicts").tag("outcome", "exhausted").counter().count());
+    }
+
+    @Test
+    public void execute_OtherException_IsNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class, () -> retrier.execute("update", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Player 1 is not registered in this event");
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
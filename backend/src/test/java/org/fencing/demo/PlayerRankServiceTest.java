@@ -137,6 +137,6 @@ class PlayerRankServiceTest {
 
     private PlayerRank createPlayerRank(int id, Player player, Event event) {
         // Adjusted to match the actual constructor of `PlayerRank`
-        return new PlayerRank((long) id, player, event, 0, 0, 0, 0);
+        return new PlayerRank((long) id, player, event, 0, 0, 0, 0, 0L);
     }
 }
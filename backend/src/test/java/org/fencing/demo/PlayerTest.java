@@ -11,6 +11,9 @@ import org.fencing.demo.player.Player;
 import org.fencing.demo.player.PlayerNotFoundException;
 import org.fencing.demo.player.PlayerRepository;
 import org.fencing.demo.player.PlayerServiceImpl;
+import org.fencing.demo.security.CachingUserDetailsService;
+import org.fencing.demo.security.TokenVersionRegistry;
+import org.fencing.demo.security.auth.RefreshTokenService;
 import org.fencing.demo.user.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,15 @@ public class PlayerTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private CachingUserDetailsService userDetailsService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -0,0 +1,131 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.fencing.demo.events.Event;
+import org.fencing.demo.events.EventNotFoundException;
+import org.fencing.demo.events.EventService;
+import org.fencing.demo.events.RegistrationBatchResult;
+import org.fencing.demo.registration.RegistrationQueue;
+import org.fencing.demo.registration.RegistrationQueueFullException;
+import org.fencing.demo.registration.RegistrationStatus;
+import org.fencing.demo.registration.RegistrationTicket;
+import org.fencing.demo.registration.RegistrationTicketNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+public class RegistrationQueueTest {
+
+    @Mock
+    private EventService eventService;
+
+    private RegistrationQueue registrationQueue;
+
+    @AfterEach
+    public void tearDown() {
+        registrationQueue.shutdown();
+    }
+
+    @Test
+    public void submit_ValidAndInvalidPlayers_CompletesTicketsWithOutcome() throws Exception {
+        registrationQueue = new RegistrationQueue(eventService, 1, 10, 100, Duration.ofHours(1));
+        when(eventService.addPlayersToEvent(eq(1L), anyList())).thenAnswer(invocation -> {
+            RegistrationBatchResult result = new RegistrationBatchResult();
+            List<String> usernames = invocation.getArgument(1);
+            if (usernames.contains("ghost")) {
+                result.getRejected().put("ghost", "Could not find Player with username ghost");
+            }
+            if (usernames.contains("latecomer")) {
+                result.getWaitlisted().add("latecomer");
+            }
+            return result;
+        });
+
+        RegistrationTicket registered = registrationQueue.submit(1L, "player1");
+        RegistrationTicket rejected = registrationQueue.submit(1L, "ghost");
+        RegistrationTicket waitlisted = registrationQueue.submit(1L, "latecomer");
+
+        awaitDone(registered);
+        awaitDone(rejected);
+        awaitDone(waitlisted);
+        assertEquals(RegistrationStatus.REGISTERED, registered.getStatus());
+        assertEquals(RegistrationStatus.REJECTED, rejected.getStatus());
+        assertEquals(RegistrationStatus.WAITLISTED, waitlisted.getStatus());
+        assertEquals("Could not find Player with username ghost", rejected.getMessage());
+        assertEquals(registered, registrationQueue.getTicket(registered.getId()));
+    }
+
+    @Test
+    public void submit_BatchHitsConstraint_FallsBackToSingleRegistrations() throws Exception {
+        registrationQueue = new RegistrationQueue(eventService, 1, 10, 100, Duration.ofHours(1));
+        when(eventService.addPlayersToEvent(eq(1L), anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate player_rank"));
+        when(eventService.addPlayerToEvent(1L, "player1")).thenReturn(new Event());
+        when(eventService.addPlayerToEvent(1L, "player2"))
+                .thenThrow(new IllegalStateException("Player is already registered for this event"));
+
+        RegistrationTicket registered = registrationQueue.submit(1L, "player1");
+        RegistrationTicket rejected = registrationQueue.submit(1L, "player2");
+
+        awaitDone(registered);
+        awaitDone(rejected);
+        assertEquals(RegistrationStatus.REGISTERED, registered.getStatus());
+        assertEquals(RegistrationStatus.REJECTED, rejected.getStatus());
+        verify(eventService).addPlayerToEvent(1L, "player1");
+    }
+
+    @Test
+    public void submit_TooManyPending_ThrowsRegistrationQueueFullException() throws Exception {
+        registrationQueue = new RegistrationQueue(eventService, 1, 10, 1, Duration.ofHours(1));
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventService.addPlayersToEvent(eq(1L), anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new RegistrationBatchResult();
+        });
+
+        RegistrationTicket first = registrationQueue.submit(1L, "player1");
+
+        assertThrows(RegistrationQueueFullException.class, () -> registrationQueue.submit(1L, "player2"));
+        release.countDown();
+        awaitDone(first);
+    }
+
+    @Test
+    public void submit_UnknownEvent_ThrowsEventNotFoundException() {
+        registrationQueue = new RegistrationQueue(eventService, 1, 10, 100, Duration.ofHours(1));
+        when(eventService.getEvent(99L)).thenThrow(new EventNotFoundException(99L));
+
+        assertThrows(EventNotFoundException.class, () -> registrationQueue.submit(99L, "player1"));
+        verify(eventService, never()).addPlayersToEvent(eq(99L), anyList());
+    }
+
+    @Test
+    public void getTicket_UnknownId_ThrowsRegistrationTicketNotFoundException() {
+        registrationQueue = new RegistrationQueue(eventService, 1, 10, 100, Duration.ofHours(1));
+
+        assertThrows(RegistrationTicketNotFoundException.class, () -> registrationQueue.getTicket("missing"));
+    }
+
+    private static void awaitDone(RegistrationTicket ticket) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (ticket.getStatus() == RegistrationStatus.PENDING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.fencing.demo.events.EventRepository;
+import org.fencing.demo.match.MatchRepository;
+import org.fencing.demo.player.Player;
+import org.fencing.demo.playerrank.PlayerRank;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.fencing.demo.scorelog.ScoreLogEntry;
+import org.fencing.demo.scorelog.ScoreLogEntryRepository;
+import org.fencing.demo.scorelog.ScoreLogSnapshot;
+import org.fencing.demo.scorelog.ScoreLogSnapshotRepository;
+import org.fencing.demo.scorelog.ScoreReplayService;
+import org.fencing.demo.scorelog.ScoreReplayState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class ScoreReplayServiceTest {
+
+    @Mock
+    private ScoreLogEntryRepository entryRepository;
+
+    @Mock
+    private ScoreLogSnapshotRepository snapshotRepository;
+
+    @Mock
+    private PlayerRankRepository playerRankRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private ScoreReplayService replayService;
+
+    @BeforeEach
+    public void setUp() {
+        replayService = new ScoreReplayService(entryRepository, snapshotRepository, playerRankRepository,
+                matchRepository, eventRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    public void replay_CorrectionAndDeletion_KeepsOnlyLatestResults() {
+        when(snapshotRepository.findFirstByEventIdOrderByLastEntryIdDesc(1L)).thenReturn(Optional.empty());
+        when(entryRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(1L, 0L)).thenReturn(history());
+
+        ScoreReplayState state = replayService.replay(1L, null);
+
+        PlayerRank player1 = state.getRanks().get(10L);
+        assertEquals(0, player1.getWinCount());
+        assertEquals(1, player1.getLossCount());
+        assertEquals(-5, player1.getScore());
+        assertEquals(-8, player1.getTempElo());
+        PlayerRank player2 = state.getRanks().get(20L);
+        assertEquals(1, player2.getWinCount());
+        assertEquals(23, player2.getScore());
+        assertEquals(8, player2.getTempElo());
+        assertEquals(0, state.getRanks().get(30L).getLossCount());
+        assertEquals(4L, state.getLastEntryId());
+    }
+
+    @Test
+    public void replay_FromSnapshot_MatchesFullReplay() {
+        List<ScoreLogEntry> history = history();
+        when(snapshotRepository.findFirstByEventIdOrderByLastEntryIdDesc(1L)).thenReturn(Optional.empty());
+        when(entryRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(1L, 0L)).thenReturn(history.subList(0, 2));
+        replayService.takeSnapshot(1L);
+        ArgumentCaptor<ScoreLogSnapshot> captor = ArgumentCaptor.forClass(ScoreLogSnapshot.class);
+        verify(snapshotRepository).save(captor.capture());
+        ScoreLogSnapshot snapshot = captor.getValue();
+        assertEquals(2L, snapshot.getLastEntryId());
+
+        Instant at = Instant.parse("2024-10-01T10:10:00Z");
+        when(snapshotRepository.findFirstByEventIdAndLastRecordedAtLessThanEqualOrderByLastEntryIdDesc(1L, at))
+                .thenReturn(Optional.of(snapshot));
+        when(entryRepository.findByEventIdAndIdGreaterThanAndRecordedAtLessThanEqualOrderByIdAsc(1L, 2L, at))
+                .thenReturn(history.subList(2, 4));
+
+        ScoreReplayState state = replayService.replay(1L, at);
+
+        assertEquals(-8, state.getRanks().get(10L).getTempElo());
+        assertEquals(23, state.getRanks().get(20L).getScore());
+        assertEquals(1, state.getResults().size());
+    }
+
+    @Test
+    public void rebuildPlayerRanks_DriftedCounters_RestoredFromLog() {
+        PlayerRank rank1 = createRank(10L, 1492);
+        PlayerRank rank2 = createRank(20L, 1508);
+        rank1.setWinCount(3);
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(snapshotRepository.findFirstByEventIdOrderByLastEntryIdDesc(1L)).thenReturn(Optional.empty());
+        when(entryRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(1L, 0L)).thenReturn(history().subList(0, 2));
+        when(matchRepository.findScoredMatchIdsByEventId(1L)).thenReturn(List.of(1L));
+        when(playerRankRepository.findByEventId(1L)).thenReturn(List.of(rank1, rank2));
+        when(matchRepository.findAppliedEloChangesByEventId(1L))
+                .thenReturn(List.<Object[]>of(new Object[] { 10L, -8, 20L, 8 }));
+        when(playerRankRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        replayService.rebuildPlayerRanks(1L);
+
+        assertEquals(0, rank1.getWinCount());
+        assertEquals(1, rank1.getLossCount());
+        assertEquals(1492, rank1.getTempElo());
+        assertEquals(1, rank2.getWinCount());
+        assertEquals(1508, rank2.getTempElo());
+    }
+
+    @Test
+    public void rebuildPlayerRanks_MatchScoredBeforeLog_ThrowsIllegalStateException() {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(snapshotRepository.findFirstByEventIdOrderByLastEntryIdDesc(1L)).thenReturn(Optional.empty());
+        when(entryRepository.findByEventIdAndIdGreaterThanOrderByIdAsc(1L, 0L)).thenReturn(history().subList(0, 2));
+        when(matchRepository.findScoredMatchIdsByEventId(1L)).thenReturn(List.of(1L, 7L));
+
+        assertThrows(IllegalStateException.class, () -> replayService.rebuildPlayerRanks(1L));
+        verify(playerRankRepository, never()).saveAll(any());
+    }
+
+    // Match 1 is scored, then corrected; match 2 is scored, then deleted
+    private static List<ScoreLogEntry> history() {
+        return List.of(
+                entry(1L, 1L, 10L, 20L, 5, 3, 10, -10, "2024-10-01T10:00:00Z"),
+                entry(2L, 1L, 10L, 20L, 2, 5, -8, 8, "2024-10-01T10:05:00Z"),
+                entry(3L, 2L, 10L, 30L, 5, 1, 6, -6, "2024-10-01T10:06:00Z"),
+                ScoreLogEntry.builder().id(4L).eventId(1L).matchId(2L).deleted(true)
+                        .recordedAt(Instant.parse("2024-10-01T10:07:00Z")).build());
+    }
+
+    private static ScoreLogEntry entry(Long id, long matchId, Long player1Id, Long player2Id, int player1Score,
+            int player2Score, int player1EloChange, int player2EloChange, String recordedAt) {
+        return ScoreLogEntry.builder()
+                .id(id)
+                .eventId(1L)
+                .matchId(matchId)
+                .player1Id(player1Id)
+                .player2Id(player2Id)
+                .player1Score(player1Score)
+                .player2Score(player2Score)
+                .player1EloChange(player1EloChange)
+                .player2EloChange(player2EloChange)
+                .recordedAt(Instant.parse(recordedAt))
+                .build();
+    }
+
+    private static PlayerRank createRank(Long playerId, int tempElo) {
+        Player player = new Player();
+        player.setId(playerId);
+        PlayerRank rank = new PlayerRank();
+        rank.setPlayer(player);
+        rank.setTempElo(tempElo);
+        return rank;
+    }
+}
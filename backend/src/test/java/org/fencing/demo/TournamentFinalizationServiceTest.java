@@ -0,0 +1,153 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.fencing.demo.events.EventRepository;
+import org.fencing.demo.events.EventService;
+import org.fencing.demo.events.MatchesNotCompleteException;
+import org.fencing.demo.playerrank.PlayerRankRepository;
+import org.fencing.demo.tournament.FinalizationJobNotFoundException;
+import org.fencing.demo.tournament.FinalizationStatus;
+import org.fencing.demo.tournament.TournamentFinalizationJob;
+import org.fencing.demo.tournament.TournamentFinalizationService;
+import org.fencing.demo.tournament.TournamentNotFoundException;
+import org.fencing.demo.tournament.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TournamentFinalizationServiceTest {
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlayerRankRepository playerRankRepository;
+
+    @Mock
+    private EventService eventService;
+
+    private TournamentFinalizationService finalizationService;
+
+    @BeforeEach
+    public void setUp() {
+        finalizationService = new TournamentFinalizationService(tournamentRepository, eventRepository,
+                playerRankRepository, eventService, 2, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        finalizationService.shutdown();
+    }
+
+    @Test
+    public void start_EventsSharingPlayer_FinalizesThemInStartOrder() throws InterruptedException {
+        when(tournamentRepository.existsById(1L)).thenReturn(true);
+        // Event 3 starts first, then 1, then 2; events 3 and 2 share player 10
+        when(eventRepository.findIdsByTournamentIdInStartOrder(1L)).thenReturn(List.of(3L, 1L, 2L));
+        when(playerRankRepository.findEventAndPlayerIdsByTournamentId(1L)).thenReturn(List.of(
+                new Object[] { 2L, 10L },
+                new Object[] { 1L, 11L },
+                new Object[] { 3L, 10L }));
+
+        TournamentFinalizationJob job = finalizationService.start(1L);
+        awaitDone(job);
+
+        assertEquals(FinalizationStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getTotalEvents());
+        assertEquals(Set.of(1L, 2L, 3L), job.getFinalizedEvents());
+        InOrder sharedPlayerOrder = inOrder(eventService);
+        sharedPlayerOrder.verify(eventService).updatePlayerEloAfterEvent(3L);
+        sharedPlayerOrder.verify(eventService).updatePlayerEloAfterEvent(2L);
+    }
+
+    @Test
+    public void start_EventNotComplete_RecordsFailureAndFinalizesOthers() throws InterruptedException {
+        when(tournamentRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findIdsByTournamentIdInStartOrder(1L)).thenReturn(List.of(1L, 2L));
+        when(playerRankRepository.findEventAndPlayerIdsByTournamentId(1L)).thenReturn(List.of());
+        when(eventService.updatePlayerEloAfterEvent(1L)).thenThrow(new MatchesNotCompleteException());
+        // Both events run in parallel, so event 2 may be finalized before the stub for event 1 is used
+        when(eventService.updatePlayerEloAfterEvent(2L)).thenReturn(List.of());
+
+        TournamentFinalizationJob job = finalizationService.start(1L);
+        awaitDone(job);
+
+        assertEquals(FinalizationStatus.COMPLETED_WITH_ERRORS, job.getStatus());
+        assertEquals(Set.of(2L), job.getFinalizedEvents());
+        assertTrue(job.getFailedEvents().containsKey(1L));
+        assertEquals(2, job.getProcessedEvents());
+    }
+
+    @Test
+    public void start_NoEvents_CompletesImmediately() {
+        when(tournamentRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findIdsByTournamentIdInStartOrder(1L)).thenReturn(List.of());
+        when(playerRankRepository.findEventAndPlayerIdsByTournamentId(1L)).thenReturn(List.of());
+
+        TournamentFinalizationJob job = finalizationService.start(1L);
+
+        assertEquals(FinalizationStatus.COMPLETED, job.getStatus());
+        assertEquals(Map.of(), job.getFailedEvents());
+        assertEquals(job, finalizationService.getJob(1L, job.getId()));
+    }
+
+    @Test
+    public void start_UnknownTournament_ThrowsTournamentNotFoundException() {
+        when(tournamentRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(TournamentNotFoundException.class, () -> finalizationService.start(99L));
+    }
+
+    @Test
+    public void getJob_WrongTournament_ThrowsFinalizationJobNotFoundException() {
+        when(tournamentRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findIdsByTournamentIdInStartOrder(1L)).thenReturn(List.of());
+        when(playerRankRepository.findEventAndPlayerIdsByTournamentId(1L)).thenReturn(List.of());
+        TournamentFinalizationJob job = finalizationService.start(1L);
+
+        assertThrows(FinalizationJobNotFoundException.class, () -> finalizationService.getJob(2L, job.getId()));
+    }
+
+    @Test
+    public void start_CompletedJobPastRetention_DropsOldJob() {
+        finalizationService.shutdown();
+        finalizationService = new TournamentFinalizationService(tournamentRepository, eventRepository,
+                playerRankRepository, eventService, 2, Duration.ZERO);
+        when(tournamentRepository.existsById(1L)).thenReturn(true);
+        when(tournamentRepository.existsById(2L)).thenReturn(true);
+        when(eventRepository.findIdsByTournamentIdInStartOrder(1L)).thenReturn(List.of());
+        when(eventRepository.findIdsByTournamentIdInStartOrder(2L)).thenReturn(List.of());
+        TournamentFinalizationJob oldJob = finalizationService.start(1L);
+
+        TournamentFinalizationJob newJob = finalizationService.start(2L);
+
+        assertThrows(FinalizationJobNotFoundException.class, () -> finalizationService.getJob(1L, oldJob.getId()));
+        assertEquals(newJob, finalizationService.getJob(2L, newJob.getId()));
+    }
+
+    private static void awaitDone(TournamentFinalizationJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (job.getStatus() == FinalizationStatus.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
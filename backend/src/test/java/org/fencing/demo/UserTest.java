@@ -13,6 +13,9 @@ import static org.mockito.Mockito.when;
 import java.util.Optional;
 
 import org.apache.hc.client5.http.auth.InvalidCredentialsException;
+import org.fencing.demo.security.CachingUserDetailsService;
+import org.fencing.demo.security.TokenVersionRegistry;
+import org.fencing.demo.security.auth.RefreshTokenService;
 import org.fencing.demo.user.Role;
 import org.fencing.demo.user.User;
 import org.fencing.demo.user.UserNotFoundException;
@@ -38,6 +41,15 @@ public class UserTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Mock
+    private CachingUserDetailsService userDetailsService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @BeforeEach
     public void setUp() {
         userRepository.deleteAll();
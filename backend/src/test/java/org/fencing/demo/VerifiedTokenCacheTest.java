@@ -0,0 +1,79 @@
+package org.fencing.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+
+import org.fencing.demo.security.VerifiedTokenCache;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+public class VerifiedTokenCacheTest {
+
+    @Test
+    public void get_CachedToken_ReturnsSameClaims() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Claims claims = createClaims("player1", 60_000);
+
+        cache.put("token", claims);
+
+        assertSame(claims, cache.get("token"));
+    }
+
+    @Test
+    public void get_UnknownToken_ReturnsNull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        assertNull(cache.get("unknown"));
+    }
+
+    @Test
+    public void put_ExpiredToken_IsNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        cache.put("token", createClaims("player1", -1_000));
+
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_CacheFull_StaysWithinBound() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(3);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("token" + i, createClaims("player" + i, 60_000));
+        }
+
+        assertTrue(cache.size() <= 3);
+        assertEquals("player9", cache.get("token9").getSubject());
+    }
+
+    @Test
+    public void invalidate_CachedToken_RemovesEntry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token", createClaims("player1", 60_000));
+
+        cache.invalidate("token");
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    public void constructor_NonPositiveSize_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VerifiedTokenCache(0));
+    }
+
+    private Claims createClaims(String subject, long millisUntilExpiry) {
+        Claims claims = Jwts.claims();
+        claims.setSubject(subject);
+        claims.setExpiration(new Date(System.currentTimeMillis() + millisUntilExpiry));
+        return claims;
+    }
+}
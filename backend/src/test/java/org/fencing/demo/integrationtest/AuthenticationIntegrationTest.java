@@ -2,6 +2,7 @@ package org.fencing.demo.integrationtest;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -9,6 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import org.fencing.demo.security.auth.AuthenticationRequest;
 import org.fencing.demo.security.auth.AuthenticationResponse;
 import org.fencing.demo.security.auth.AuthenticationService;
+import org.fencing.demo.security.auth.RefreshRequest;
 import org.fencing.demo.security.auth.RegisterRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,7 +50,7 @@ public class AuthenticationIntegrationTest {
         // Arrange
         RegisterRequest registerRequest = new RegisterRequest("testUser", "password", "test@example.com", "PLAYER",
                 "MALE");
-        AuthenticationResponse expectedResponse = new AuthenticationResponse("jwt-token");
+        AuthenticationResponse expectedResponse = new AuthenticationResponse("jwt-token", "refresh-token");
 
         when(authenticationService.register(any(RegisterRequest.class))).thenReturn(expectedResponse);
 
@@ -57,14 +59,15 @@ public class AuthenticationIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(registerRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token").value("jwt-token"));
+                .andExpect(jsonPath("$.token").value("jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-token"));
     }
 
     @Test
     public void testAuthenticateEndpoint() throws Exception {
         // Arrange
         AuthenticationRequest authRequest = new AuthenticationRequest("testUser", "password");
-        AuthenticationResponse expectedResponse = new AuthenticationResponse("jwt-token");
+        AuthenticationResponse expectedResponse = new AuthenticationResponse("jwt-token", "refresh-token");
 
         when(authenticationService.authenticate(any(AuthenticationRequest.class))).thenReturn(expectedResponse);
 
@@ -73,6 +76,36 @@ public class AuthenticationIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(authRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token").value("jwt-token"));
+                .andExpect(jsonPath("$.token").value("jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-token"));
+    }
+
+    @Test
+    public void testRefreshEndpoint() throws Exception {
+        // Arrange
+        AuthenticationResponse expectedResponse = new AuthenticationResponse("new-jwt-token", "new-refresh-token");
+
+        when(authenticationService.refresh(any(RefreshRequest.class))).thenReturn(expectedResponse);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshRequest("refresh-token"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("new-jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+    }
+
+    @Test
+    public void testProtectedEndpointWithoutToken() throws Exception {
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testProtectedEndpointWithInvalidToken() throws Exception {
+        mockMvc.perform(get("/users")
+                .header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
     }
 }
@@ -37,6 +37,7 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.persistence.EntityManagerFactory;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 
@@ -63,6 +64,8 @@ public abstract class BaseIntegrationTest {
     protected GroupStageRepository groupStageRepository;
     @Autowired
     protected KnockoutStageRepository knockoutStageRepository;
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
 
     protected User adminUser;
     protected User regularUser;
@@ -118,6 +121,8 @@ public abstract class BaseIntegrationTest {
         knockoutStageRepository.deleteAll();
         groupStageRepository.deleteAll();
         matchRepository.deleteAll();
+        // Bulk and JDBC deletes skip second-level cache eviction, so no cached row may outlive a test
+        entityManagerFactory.getCache().evictAll();
     }
 
     protected HttpHeaders createHeaders(String token) {
@@ -0,0 +1,69 @@
+package org.fencing.demo.integrationtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.fencing.demo.match.Match;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Checks pool bout generation for a 48 fencer event. With pooled sequence ids Hibernate can
+ * send the generated matches as JDBC batches, so the statements prepared for the whole request
+ * stay far below one per bout (what IDENTITY ids used to cost).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "spring.jpa.properties.hibernate.order_inserts=true"
+        })
+public class MatchBatchInsertIntegrationTest extends BaseIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchBatchInsertIntegrationTest.class);
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+        groupStageRepository.deleteAll();
+        int[] elos = new int[48];
+        for (int i = 0; i < elos.length; i++) {
+            elos[i] = 1200 + i * 10;
+        }
+        setUpWithPlayersInEvent(elos);
+    }
+
+    @Test
+    void createMatches_LargeEvent_InsertsBoutsInBatches() {
+        String url = "/tournaments/" + tournament.getId() + "/events/" + event.getId() + "/groupStage";
+        restTemplate.exchange(createUrl(url), HttpMethod.POST, new HttpEntity<>(null, createHeaders(adminToken)),
+                String.class);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseEntity<Match[]> response = restTemplate.exchange(createUrl(url + "/matches"), HttpMethod.POST,
+                new HttpEntity<>(null, createHeaders(adminToken)), Match[].class);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        int bouts = response.getBody().length;
+        long statements = statistics.getPrepareStatementCount();
+        // With IDENTITY ids every inserted row was its own statement and round trip
+        long unbatchedStatements = statistics.getEntityInsertCount();
+        log.info("Generated {} bouts with {} statements, IDENTITY baseline at least {}",
+                bouts, statements, unbatchedStatements);
+
+        // 48 fencers make 12 pools of 4, each fencing 6 bouts
+        assertEquals(72, bouts);
+        assertTrue(unbatchedStatements >= bouts);
+        assertTrue(statements < bouts / 2, "Bout inserts should be batched, got " + statements + " statements");
+    }
+}
@@ -2,19 +2,23 @@ package org.fencing.demo.integrationtest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
 import java.util.Optional;
 
 import org.fencing.demo.events.Gender;
 import org.fencing.demo.player.Player;
+import org.fencing.demo.player.PlayerImportResult;
 import org.fencing.demo.user.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
@@ -75,6 +79,44 @@ public class PlayerIntegrationTest extends BaseIntegrationTest {
         assertEquals(409, result.getStatusCode().value());
     }
 
+    @Test
+    public void importPlayers_MixedRows_ImportsValidAndReportsFailures() throws Exception {
+        String csv = "username,password,email,gender\n"
+                + "fencer1,pass1,fencer1@example.com,MALE\n"
+                + "fencer2,\"pa,ss2\",fencer2@example.com,female\n"
+                + "user,pass3,taken@example.com,MALE\n"
+                + "fencer3,pass4,not-an-email,MALE\n"
+                + "fencer1,pass5,other@example.com,MALE\n";
+        URI uri = createUrl("/players/import");
+        HttpHeaders headers = createHeaders(adminToken);
+        headers.setContentType(MediaType.valueOf("text/csv"));
+
+        HttpEntity<String> request = new HttpEntity<>(csv, headers);
+        ResponseEntity<PlayerImportResult> result = restTemplate.exchange(uri, HttpMethod.POST, request,
+                PlayerImportResult.class);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(2, result.getBody().getImported());
+        assertEquals(3, result.getBody().getFailures().size());
+        Player imported = playerRepository.findByUsername("fencer2").get(0);
+        assertEquals(Gender.FEMALE, imported.getGender());
+        assertEquals(1700, imported.getElo());
+        assertTrue(passwordEncoder.matches("pa,ss2", imported.getPassword()));
+    }
+
+    @Test
+    public void importPlayers_NotAdmin_Forbidden() throws Exception {
+        URI uri = createUrl("/players/import");
+        HttpHeaders headers = createHeaders(userToken);
+        headers.setContentType(MediaType.valueOf("text/csv"));
+
+        HttpEntity<String> request = new HttpEntity<>("fencer1,pass1,fencer1@example.com,MALE\n", headers);
+        ResponseEntity<String> result = restTemplate.exchange(uri, HttpMethod.POST, request, String.class);
+
+        assertEquals(403, result.getStatusCode().value());
+        assertTrue(playerRepository.findByUsername("fencer1").isEmpty());
+    }
+
     @Test
     public void updatePlayer_Success() throws Exception {
 
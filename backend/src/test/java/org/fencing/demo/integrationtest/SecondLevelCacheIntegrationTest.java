@@ -0,0 +1,89 @@
+package org.fencing.demo.integrationtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.fencing.demo.events.Event;
+import org.fencing.demo.player.Player;
+import org.fencing.demo.tournament.Tournament;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class SecondLevelCacheIntegrationTest extends BaseIntegrationTest {
+
+    @Test
+    void findById_RepeatedEventRead_ServedFromCache() {
+        Statistics statistics = statistics();
+        eventRepository.findById(event.getId());
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        Event cached = eventRepository.findById(event.getId()).orElseThrow();
+
+        assertEquals(event.getId(), cached.getId());
+        assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics("org.fencing.demo.events.Event").getHitCount() > 0);
+    }
+
+    @Test
+    void findById_RepeatedPlayerRead_ServedFromUserRegion() {
+        Statistics statistics = statistics();
+        playerRepository.findById(playerUser.getId());
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        Player cached = playerRepository.findById(playerUser.getId()).orElseThrow();
+
+        assertEquals(playerUser.getUsername(), cached.getUsername());
+        assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics("org.fencing.demo.user.User").getHitCount() > 0);
+    }
+
+    @Test
+    void save_EventUpdated_CacheServesNewValue() {
+        eventRepository.findById(event.getId());
+        Event loaded = eventRepository.findById(event.getId()).orElseThrow();
+        loaded.setCapacity(200);
+        eventRepository.save(loaded);
+
+        assertEquals(200, eventRepository.findById(event.getId()).orElseThrow().getCapacity());
+    }
+
+    @Test
+    void addEvent_TournamentEventsCached_CollectionIncludesNewEvent() {
+        tournamentEventIds();
+        Statistics statistics = statistics();
+        assertEquals(Set.of(event.getId()), tournamentEventIds());
+        assertTrue(statistics.getDomainDataRegionStatistics("org.fencing.demo.tournament.Tournament.events").getHitCount() > 0);
+
+        HttpEntity<Event> request = new HttpEntity<>(createValidEvent(tournament), createHeaders(adminToken));
+        Event added = restTemplate.exchange(createUrl("/tournaments/" + tournament.getId() + "/events"),
+                HttpMethod.POST, request, Event.class).getBody();
+
+        assertEquals(Set.of(event.getId(), added.getId()), tournamentEventIds());
+    }
+
+    private Set<Long> tournamentEventIds() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(Tournament.class, tournament.getId()).getEvents().stream()
+                    .map(Event::getId)
+                    .collect(Collectors.toSet());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -19,20 +19,32 @@ import UnauthorizedPage from "./components/UnauthorizedPage";
 import AdminEventDetailsPage from "./components/AdminEventDetailsPage";
 import AdminStageDetailsPage from "./components/AdminStageDetailsPage";
 import AdminMatchDetailsPage from "./components/AdminMatchDetailsPage";
+import authService from "./services/authService";
 
 axios.defaults.baseURL = "http://localhost:8080";
 
+// Public auth endpoints never carry (or refresh) the access token
+const publicEndpoints = [
+  "/api/v1/auth/authenticate",
+  "/api/v1/auth/register",
+  "/api/v1/auth/refresh",
+];
+
 axios.interceptors.request.use(
-  (config) => {
-    const token = localStorage.getItem("token"); // Retrieve token from localStorage
+  async (config) => {
+    if (publicEndpoints.includes(config.url)) {
+      return config;
+    }
 
-    // Skip Authorization header for specific public endpoints
-    const publicEndpoints = [
-      "/api/v1/auth/authenticate",
-      "/api/v1/auth/register",
-    ];
+    let token = localStorage.getItem("token"); // Retrieve token from localStorage
+    try {
+      // Access tokens are short-lived, swap an expiring one before sending the request
+      token = await authService.ensureFreshToken();
+    } catch (error) {
+      token = null;
+    }
 
-    if (token && !publicEndpoints.includes(config.url)) {
+    if (token) {
       config.headers.Authorization = `Bearer ${token}`; // Attach token to Authorization header
     }
 
@@ -43,6 +55,43 @@ axios.interceptors.request.use(
   }
 );
 
+axios.interceptors.response.use(
+  (response) => response,
+  async (error) => {
+    const config = error.config;
+    const status = error.response && error.response.status;
+    // Retry once with a refreshed token if the access token was rejected. Only a 401 means the
+    // token is missing, expired or revoked; a 403 is a valid token without the right role
+    if (
+      config &&
+      !config._retried &&
+      status === 401 &&
+      !publicEndpoints.includes(config.url) &&
+      localStorage.getItem("refreshToken")
+    ) {
+      config._retried = true;
+      try {
+        const token = await authService.refreshTokens();
+        config.headers.Authorization = `Bearer ${token}`;
+        return axios(config);
+      } catch (refreshError) {
+        return Promise.reject(error);
+      }
+    }
+    return Promise.reject(error);
+  }
+);
+
+// Keep the stored access token fresh so pages that check its expiry keep working
+setInterval(() => {
+  if (
+    localStorage.getItem("refreshToken") &&
+    authService.isTokenExpiring(localStorage.getItem("token"), 60)
+  ) {
+    authService.refreshTokens().catch(() => {});
+  }
+}, 30 * 1000);
+
 const App = () => {
   return (
     <BrowserRouter>
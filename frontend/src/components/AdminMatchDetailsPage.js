@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import axios from "axios";
 import "../styles/shared/index.css"; // Import the relevant CSS
@@ -15,6 +15,8 @@ const AdminMatchDetailsPage = () => {
   const [loading, setLoading] = useState(true);
   const [saving, setSaving] = useState(false);
   const [error, setError] = useState(null);
+  // Resending the same scores reuses the key, so the server applies them only once
+  const lastSubmission = useRef(null);
 
   useEffect(() => {
     const fetchMatchDetails = async () => {
@@ -47,6 +49,11 @@ const AdminMatchDetailsPage = () => {
       return;
     }
 
+    const scores = `${Number(player1Score)}:${Number(player2Score)}`;
+    if (!lastSubmission.current || lastSubmission.current.scores !== scores) {
+      lastSubmission.current = { scores, key: crypto.randomUUID() };
+    }
+
     setSaving(true);
     setError(null);
     try {
@@ -57,7 +64,8 @@ const AdminMatchDetailsPage = () => {
           player2: match.player2,
           player1Score: Number(player1Score),
           player2Score: Number(player2Score),
-        }
+        },
+        { headers: { "Idempotency-Key": lastSubmission.current.key } }
       );
       alert("Scores saved successfully!");
     } catch (error) {
@@ -38,8 +38,9 @@ const LoginPage = () => {
       const decodedToken = jwtDecode(token);
       console.log("Decoded Token:", decodedToken);
 
-      // Store the JWT token in localStorage
+      // Store the JWT token and the refresh token in localStorage
       localStorage.setItem("token", token);
+      localStorage.setItem("refreshToken", response.data.refreshToken);
 
       const userRoles = decodedToken.roles; // This should match the structure of your decoded token
       const userRole = userRoles.includes("ROLE_ADMIN") ? "admin" : "user"; // Check if "ROLE_ADMIN" is in the roles array
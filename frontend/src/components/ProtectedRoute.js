@@ -1,9 +1,11 @@
-import React from 'react';
+import React, { useEffect, useState } from 'react';
 import { Navigate, Outlet } from 'react-router-dom';
 import { jwtDecode } from 'jwt-decode';
+import authService from '../services/authService';
 
 const ProtectedRoute = ({ requiredRole }) => {
-  const token = localStorage.getItem('token');  // Retrieve JWT token from localStorage
+  const [token, setToken] = useState(localStorage.getItem('token'));  // Retrieve JWT token from localStorage
+  const [refreshing, setRefreshing] = useState(false);
   
   // Check if the user is authenticated
   const isAuthenticated = !!token;
@@ -20,6 +22,24 @@ const ProtectedRoute = ({ requiredRole }) => {
     }
   };
 
+  const canRefresh = isTokenExpired(token) && !!localStorage.getItem('refreshToken');
+
+  useEffect(() => {
+    // An expired access token can still be renewed with the refresh token
+    if (canRefresh && !refreshing) {
+      setRefreshing(true);
+      authService
+        .refreshTokens()
+        .then((newToken) => setToken(newToken))
+        .catch(() => setToken(null))
+        .finally(() => setRefreshing(false));
+    }
+  }, [canRefresh, refreshing]);
+
+  if (canRefresh || refreshing) {
+    return null;
+  }
+
   if (!isAuthenticated || isTokenExpired(token)) {
     // Clear invalid/expired token from localStorage
     localStorage.removeItem('token');
@@ -48,12 +48,17 @@ const UpcomingMatchesPage = () => {
 
   const fetchMatches = async () => {
     try {
-      const response = await axios.get("/matches", {
-        headers: { Authorization: `Bearer ${token}` },
-      });
-      const userMatches = response.data.filter(
-        (match) => match.player1.id === userId || match.player2.id === userId
-      );
+      // The listing is paged; follow the cursor until this player's matches are all loaded
+      const userMatches = [];
+      let cursor = null;
+      do {
+        const response = await axios.get("/matches", {
+          headers: { Authorization: `Bearer ${token}` },
+          params: { playerId: userId, limit: 200, cursor: cursor ?? undefined },
+        });
+        userMatches.push(...response.data.items);
+        cursor = response.data.nextCursor;
+      } while (cursor);
       setMatches(userMatches);
       fetchEventDetails(userMatches); // Fetch event details for matches
     } catch (error) {
@@ -222,8 +227,8 @@ const UpcomingMatchesPage = () => {
   };
 
   const getStageType = (match) => {
-    if (match.groupStage) return "Group Stage";
-    if (match.knockoutStage) return "Knockout Stage";
+    if (match.groupStageId) return "Group Stage";
+    if (match.knockoutStageId) return "Knockout Stage";
     return "Unknown Stage";
   };
 
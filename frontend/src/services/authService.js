@@ -1,16 +1,10 @@
 import axios from 'axios';
+import { jwtDecode } from 'jwt-decode';
 
-// Attach JWT token to all requests
-axios.interceptors.request.use(
-  (config) => {
-    const token = localStorage.getItem('token');
-    if (token) {
-      config.headers.Authorization = `Bearer ${token}`;
-    }
-    return config;
-  },
-  (error) => Promise.reject(error)
-);
+// Refresh a little before the access token actually expires
+const REFRESH_MARGIN_SECONDS = 30;
+
+let refreshPromise = null;
 
 // Login function
 const login = async (username, password) => {
@@ -18,4 +12,63 @@ const login = async (username, password) => {
   return response.data;  // { token, role }
 };
 
-export default { login };
+const storeTokens = ({ token, refreshToken }) => {
+  localStorage.setItem('token', token);
+  if (refreshToken) {
+    localStorage.setItem('refreshToken', refreshToken);
+  }
+};
+
+const clearTokens = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+};
+
+const isTokenExpiring = (token, marginSeconds = REFRESH_MARGIN_SECONDS) => {
+  if (!token) return true;
+  try {
+    const decodedToken = jwtDecode(token);
+    return decodedToken.exp - marginSeconds < Date.now() / 1000;
+  } catch (error) {
+    return true;
+  }
+};
+
+// Exchanges the stored refresh token for a new token pair. Concurrent callers share one request,
+// since each refresh token can only be used once.
+const refreshTokens = () => {
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) {
+    return Promise.reject(new Error('No refresh token'));
+  }
+  if (!refreshPromise) {
+    refreshPromise = axios
+      .post('/api/v1/auth/refresh', { refreshToken })
+      .then((response) => {
+        storeTokens(response.data);
+        return response.data.token;
+      })
+      .catch((error) => {
+        clearTokens();
+        throw error;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
+// Returns a valid access token, refreshing it first if it is about to expire
+const ensureFreshToken = async () => {
+  const token = localStorage.getItem('token');
+  if (token && !isTokenExpiring(token)) {
+    return token;
+  }
+  if (!localStorage.getItem('refreshToken')) {
+    return token;
+  }
+  return refreshTokens();
+};
+
+export default { login, storeTokens, clearTokens, isTokenExpiring, refreshTokens, ensureFreshToken };